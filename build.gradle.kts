@@ -37,6 +37,179 @@ fun announce(message: String) {
     logger.quiet("\n$block")
 }
 
+data class MethodCost(val name: String, val instructions: Int, val longestPath: Int, val robotControllerCalls: Int)
+
+data class Instruction(val offset: Int, val opcode: String, val targets: List<Int>)
+
+fun getLongestLoopFreePath(instructions: List<Instruction>): Int {
+    if (instructions.isEmpty()) {
+        return 0
+    }
+
+    val indexByOffset = instructions.withIndex().associate { it.value.offset to it.index }
+    val backwardTargets = instructions
+        .flatMap { instruction -> instruction.targets.filter { it <= instruction.offset } }
+        .toSet()
+
+    val terminators = setOf("goto", "goto_w", "return", "ireturn", "lreturn", "freturn", "dreturn", "areturn", "athrow", "tableswitch", "lookupswitch")
+
+    // Forward edges only, plus an edge into the body of loops that javac enters with a forward goto to the condition
+    val lengths = IntArray(instructions.size)
+    lengths[0] = 1
+
+    for ((index, instruction) in instructions.withIndex()) {
+        if (lengths[index] == 0) {
+            continue
+        }
+
+        val successors = instruction.targets.filter { it > instruction.offset }.mapNotNull { indexByOffset[it] }.toMutableList()
+        if (index + 1 < instructions.size) {
+            val next = instructions[index + 1]
+            if (instruction.opcode !in terminators || (instruction.opcode.startsWith("goto") && next.offset in backwardTargets)) {
+                successors.add(index + 1)
+            }
+        }
+
+        for (successor in successors) {
+            lengths[successor] = maxOf(lengths[successor], lengths[index] + 1)
+        }
+    }
+
+    return lengths.maxOrNull() ?: 0
+}
+
+fun getJavap(): File {
+    val executable = if (clientType == "win") "javap.exe" else "javap"
+
+    // On JDK 8 java.home points to the jre directory inside the JDK, which does not contain javap
+    var javaHome = File(System.getProperty("java.home"))
+    if (!javaHome.resolve("bin").resolve(executable).isFile && javaHome.name == "jre") {
+        javaHome = javaHome.parentFile
+    }
+
+    val javap = javaHome.resolve("bin").resolve(executable)
+    if (!javap.isFile) {
+        throw GradleException("Could not find javap in ${javaHome.absolutePath}, run Gradle with a JDK instead of a JRE")
+    }
+
+    return javap
+}
+
+fun analyzeClass(classFile: File): List<MethodCost> {
+    val javap = getJavap()
+    val process = ProcessBuilder(javap.absolutePath, "-c", "-p", classFile.absolutePath).redirectErrorStream(true).start()
+    val lines = process.inputStream.bufferedReader().readLines()
+    process.waitFor()
+
+    val className = classFile.nameWithoutExtension
+    val instructionRegex = Regex("^\\s+(\\d+): (\\w+)(.*)$")
+    val switchCaseRegex = Regex("^\\s+(-?\\d+|default): (\\d+)$")
+    val methodNameRegex = Regex("([\\w$.<>]+)\\((.*?)\\)")
+
+    val methods = mutableListOf<MethodCost>()
+
+    var methodName: String? = null
+    var instructions = mutableListOf<Instruction>()
+    var robotControllerCalls = 0
+    var switchInstruction: Instruction? = null
+
+    fun finishMethod() {
+        val name = methodName ?: return
+        methods.add(MethodCost("$className.$name", instructions.size, getLongestLoopFreePath(instructions), robotControllerCalls))
+
+        methodName = null
+        instructions = mutableListOf()
+        robotControllerCalls = 0
+    }
+
+    for ((index, line) in lines.withIndex()) {
+        if (line == "    Code:") {
+            finishMethod()
+
+            val header = lines[index - 1].trim().substringBefore(" throws ")
+            val match = methodNameRegex.find(header)
+            methodName = if (match == null) {
+                "<clinit>"
+            } else {
+                val name = match.groupValues[1].substringAfterLast('.')
+                val parameters = match.groupValues[2].split(", ").filter { it.isNotEmpty() }.map { it.substringAfterLast('.') }
+                "${if (name == className) "<init>" else name}(${parameters.joinToString(", ")})"
+            }
+
+            continue
+        }
+
+        if (methodName == null) {
+            continue
+        }
+
+        val switch = switchInstruction
+        if (switch != null) {
+            val caseMatch = switchCaseRegex.find(line)
+            if (caseMatch != null) {
+                switchInstruction = Instruction(switch.offset, switch.opcode, switch.targets + caseMatch.groupValues[2].toInt())
+            } else if (line.trim() == "}") {
+                instructions.add(switch)
+                switchInstruction = null
+            }
+
+            continue
+        }
+
+        val match = instructionRegex.find(line)
+        if (match == null) {
+            if (line.isBlank() || !line.startsWith("      ")) {
+                finishMethod()
+            }
+
+            continue
+        }
+
+        val offset = match.groupValues[1].toInt()
+        val opcode = match.groupValues[2]
+        val operands = match.groupValues[3].trim()
+
+        if (opcode == "tableswitch" || opcode == "lookupswitch") {
+            switchInstruction = Instruction(offset, opcode, listOf())
+            continue
+        }
+
+        if (operands.contains("battlecode/common/RobotController.")) {
+            robotControllerCalls++
+        }
+
+        val isJump = opcode.startsWith("if") || opcode.startsWith("goto") || opcode == "jsr"
+        val targets = if (isJump) listOf(operands.substringBefore(' ').toInt()) else listOf()
+        instructions.add(Instruction(offset, opcode, targets))
+    }
+
+    finishMethod()
+    return methods
+}
+
+fun analyzePlayer(classesDirectory: File, player: String): List<MethodCost> {
+    return classesDirectory.resolve(player)
+        .listFiles { file -> file.extension == "class" }
+        .orEmpty()
+        .sortedBy { it.name }
+        .flatMap { analyzeClass(it) }
+}
+
+fun getPreviousPlayer(player: String): String? {
+    val versions = projectDirectory.resolve("src")
+        .listFiles { file -> file.isDirectory && file.name.startsWith("camel_case_v") }
+        .orEmpty()
+        .map { it.name }
+        .sorted()
+
+    if (player == "camel_case") {
+        return versions.lastOrNull()
+    }
+
+    val index = versions.indexOf(player)
+    return if (index > 0) versions[index - 1] else null
+}
+
 val projectDirectory = layout.projectDirectory.asFile
 val buildDirectory = layout.buildDirectory.asFile.get()
 
@@ -212,10 +385,83 @@ task<Zip>("createSubmission") {
 
     from(file("src").absolutePath)
     include("camel_case/**/*")
+    exclude("camel_case/Benchmark.java")
     archiveBaseName.set(DateTimeFormatter.ofPattern("yyyy-MM-dd_kk-mm-ss").format(LocalDateTime.now()))
     destinationDirectory.set(buildDirectory.resolve("submissions"))
 }
 
+task("bytecodeReport") {
+    group = "battlecode"
+    description = "Reports the static bytecode cost of a player's methods and compares it to the previous version."
+
+    dependsOn("compileJava")
+
+    doLast {
+        val classesDirectory = sourceSets["main"].output.classesDirs.singleFile
+        val player = project.findProperty("player")?.toString() ?: project.property("teamA").toString()
+        val previousPlayer = project.findProperty("previousPlayer")?.toString() ?: getPreviousPlayer(player)
+        val hotspotThreshold = project.findProperty("hotspotThreshold")?.toString()?.toInt() ?: 2500
+
+        val methods = analyzePlayer(classesDirectory, player)
+        if (methods.isEmpty()) {
+            throw GradleException("No compiled classes found for player '$player'")
+        }
+
+        val previousMethods = if (previousPlayer != null) {
+            analyzePlayer(classesDirectory, previousPlayer).associateBy { it.name }
+        } else {
+            mapOf()
+        }
+
+        val nameWidth = methods.maxOf { it.name.length }
+        val lines = mutableListOf<String>()
+
+        lines.add("Bytecode report for $player" + (if (previousPlayer != null) " (compared to $previousPlayer)" else ""))
+        lines.add("")
+        lines.add("${"Method".padEnd(nameWidth)}  Instructions  Loop-free path  RC calls  Change")
+
+        for (method in methods.sortedByDescending { it.longestPath }) {
+            val previousMethod = previousMethods[method.name]
+            val change = when {
+                previousPlayer == null -> ""
+                previousMethod == null -> "new"
+                method.instructions == previousMethod.instructions && method.longestPath == previousMethod.longestPath -> ""
+                else -> "%+d instructions, %+d path".format(
+                    method.instructions - previousMethod.instructions,
+                    method.longestPath - previousMethod.longestPath
+                )
+            }
+
+            val hotspot = if (method.longestPath >= hotspotThreshold) "HOTSPOT " else ""
+
+            lines.add(
+                "${method.name.padEnd(nameWidth)}  ${method.instructions.toString().padStart(12)}  " +
+                    "${method.longestPath.toString().padStart(14)}  ${method.robotControllerCalls.toString().padStart(8)}  $hotspot$change".trimEnd()
+            )
+        }
+
+        val removedMethods = previousMethods.keys - methods.map { it.name }.toSet()
+        for (name in removedMethods.sorted()) {
+            lines.add("${name.padEnd(nameWidth)}  ${"".padStart(38)}  removed")
+        }
+
+        lines.add("")
+        lines.add("Total: ${methods.sumOf { it.instructions }} instructions in ${methods.size} methods" +
+            (if (previousPlayer != null) " (${previousMethods.values.sumOf { it.instructions }} in $previousPlayer)" else ""))
+
+        val reportFile = buildDirectory.resolve("reports/bytecode/$player.txt")
+        reportFile.parentFile.mkdirs()
+        reportFile.writeText(lines.joinToString("\n") + "\n")
+
+        for (line in lines) {
+            logger.quiet(line)
+        }
+
+        logger.quiet("")
+        logger.quiet("Report written to $reportFile")
+    }
+}
+
 tasks.named("build") {
     group = "battlecode"
 
@@ -0,0 +1,107 @@
+import re
+import shutil
+import subprocess
+import sys
+from argparse import ArgumentParser
+from pathlib import Path
+from rich.console import Console
+from rich.table import Table
+
+BENCHMARK_HOOK = "Globals.init(robotController);"
+BENCHMARK_PATTERN = re.compile(r"Benchmark (.+): min (-?\d+), avg (-?\d+), max (-?\d+), (\d+) calls")
+
+def create_benchmark_player(player: str) -> str:
+    source_directory = Path(__file__).parent.parent / "src" / player
+    if not (source_directory / "Benchmark.java").is_file():
+        print(f"Player '{player}' does not contain a Benchmark class")
+        sys.exit(1)
+
+    target_player = f"{player}_benchmark"
+    target_directory = Path(__file__).parent.parent / "src" / target_player
+    if target_directory.is_dir():
+        shutil.rmtree(target_directory)
+
+    shutil.copytree(source_directory, target_directory)
+
+    for file in target_directory.rglob("*.java"):
+        content = file.read_text(encoding="utf-8")
+        content = content.replace(f"package {player}", f"package {target_player}")
+        content = content.replace(f"import {player}", f"import {target_player}")
+
+        if file.name == "RobotPlayer.java":
+            if BENCHMARK_HOOK not in content:
+                print(f"Could not find '{BENCHMARK_HOOK}' in {file}")
+                sys.exit(1)
+
+            content = content.replace(BENCHMARK_HOOK, f"{BENCHMARK_HOOK}\n        Benchmark.run();", 1)
+
+        file.write_text(content, encoding="utf-8")
+
+    return target_player
+
+def run_benchmark(player: str, map: str) -> dict[str, tuple[int, int, int, int]]:
+    benchmark_player = create_benchmark_player(player)
+
+    try:
+        process = subprocess.run([
+            str(Path(__file__).parent.parent / "gradlew"),
+            "run",
+            "-x", "unpackClient",
+            "-x", "checkForUpdates",
+            f"-PteamA={benchmark_player}",
+            "-PteamB=examplefuncsplayer",
+            f"-Pmaps={map}",
+            f"-PreplayPath=replays/benchmark-{player}-on-{map}.bc24"
+        ], stdout=subprocess.PIPE, stderr=subprocess.STDOUT)
+    finally:
+        shutil.rmtree(Path(__file__).parent.parent / "src" / benchmark_player)
+
+    stdout = process.stdout.decode("utf-8")
+
+    if process.returncode != 0:
+        print(f"Gradle exited with status code {process.returncode} while benchmarking {player} on {map}\n{stdout}")
+        sys.exit(process.returncode)
+
+    results = {}
+    for line in stdout.splitlines():
+        match = BENCHMARK_PATTERN.search(line)
+        if match is not None:
+            results[match.group(1)] = tuple(int(match.group(i)) for i in range(2, 6))
+        elif "Benchmark skipped" in line or "Exception" in line:
+            print(line)
+
+    return results
+
+def main() -> None:
+    parser = ArgumentParser(description="Measure the exact bytecode cost of the benchmark cases in one or more players.")
+    parser.add_argument("players", type=str, nargs="+", help="names of the players to benchmark")
+    parser.add_argument("--map", type=str, default="DefaultSmall", help="map to run the benchmarks on")
+
+    args = parser.parse_args()
+
+    results_by_player = {player: run_benchmark(player, args.map) for player in args.players}
+
+    table = Table()
+    table.add_column("Benchmark", style="bold", overflow="fold")
+    for player in args.players:
+        table.add_column(f"{player} (min/avg/max)", overflow="fold")
+
+    names = []
+    for results in results_by_player.values():
+        for name in results:
+            if name not in names:
+                names.append(name)
+
+    for name in names:
+        row = [name]
+
+        for player in args.players:
+            result = results_by_player[player].get(name)
+            row.append(f"{result[0]}/{result[1]}/{result[2]}" if result is not None else "")
+
+        table.add_row(*row)
+
+    Console(highlight=False).print(table)
+
+if __name__ == "__main__":
+    main()
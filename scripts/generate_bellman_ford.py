@@ -75,7 +75,6 @@ package camel_case;
 
 import battlecode.common.Direction;
 import battlecode.common.GameActionException;
-import battlecode.common.GameConstants;
 import battlecode.common.MapLocation;
 
 // Generated by scripts/generate_bellman_ford.py
@@ -112,7 +111,7 @@ public class BellmanFordNavigator extends Globals {{
             return null;
         }}
 
-        boolean checkOpponents = rc.senseNearbyRobots(GameConstants.VISION_RADIUS_SQUARED, opponentTeam).length > 0;
+        boolean checkOpponents = DangerField.hasOpponents();
     """.rstrip() + "\n"
 
     for dx, dy in offsets_by_distance:
@@ -128,7 +127,7 @@ public class BellmanFordNavigator extends Globals {{
         content += f"""
         int distance{id} = 1_000_000;
         Direction direction{id} = null;
-        int weight{id} = canVisit{id} ? (rc.senseMapInfo(location{id}).isWater() ? {2 + max(abs(dx), abs(dy))} : 1) + (checkOpponents ? rc.senseNearbyRobots(location{id}, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight{id} = canVisit{id} ? (rc.senseMapInfo(location{id}).isWater() ? {2 + max(abs(dx), abs(dy))} : 1) + (checkOpponents ? DangerField.get(location{id}) : 0) : 1_000_000;
         """.rstrip() + "\n"
 
     for i, (side, ordered_offsets) in enumerate([
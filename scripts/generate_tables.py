@@ -0,0 +1,120 @@
+from pathlib import Path
+
+# Same order as battlecode.common.Direction
+DIRECTIONS = [
+    ("NORTH", 0, 1),
+    ("NORTHEAST", 1, 1),
+    ("EAST", 1, 0),
+    ("SOUTHEAST", 1, -1),
+    ("SOUTH", 0, -1),
+    ("SOUTHWEST", -1, -1),
+    ("WEST", -1, 0),
+    ("NORTHWEST", -1, 1),
+    ("CENTER", 0, 0)
+]
+
+MAX_DELTA = 10
+
+DANGER_RADIUS_SQUARED = 10
+DANGER_WINDOW_RADIUS = 7
+DANGER_WINDOW_SIZE = 2 * DANGER_WINDOW_RADIUS + 1
+DANGER_STAMP_OFFSET = 64
+
+VISION_RADIUS_SQUARED = 20
+VISION_OFFSET_BIAS = 8
+
+def ordinal(dx: int, dy: int) -> int:
+    return next(i for i, (_, direction_dx, direction_dy) in enumerate(DIRECTIONS) if direction_dx == dx and direction_dy == dy)
+
+def sign(value: int) -> int:
+    return (value > 0) - (value < 0)
+
+def direction_to(dx: int, dy: int) -> int:
+    # Same rounding as MapLocation.directionTo
+    if abs(dx) >= 2.414 * abs(dy):
+        dy = 0
+    elif abs(dy) >= 2.414 * abs(dx):
+        dx = 0
+
+    return ordinal(sign(dx), sign(dy))
+
+def rotate(index: int, steps: int) -> int:
+    return index if index == 8 else (index + steps) % 8
+
+def new_vision_offsets(move_dx: int, move_dy: int) -> list[int]:
+    # Offsets from the new location that were not visible from the previous location
+    vision_range = range(-VISION_OFFSET_BIAS + 1, VISION_OFFSET_BIAS)
+    offsets = []
+
+    for dx in vision_range:
+        for dy in vision_range:
+            if dx * dx + dy * dy > VISION_RADIUS_SQUARED:
+                continue
+
+            previous_dx = dx + move_dx
+            previous_dy = dy + move_dy
+            if previous_dx * previous_dx + previous_dy * previous_dy > VISION_RADIUS_SQUARED:
+                offsets.append(((dx + VISION_OFFSET_BIAS) << 4) | (dy + VISION_OFFSET_BIAS))
+
+    return offsets
+
+def to_java_string(values: list[int]) -> str:
+    # Octal escapes keep line terminators out of the source, \u000a would end the literal
+    return '"' + "".join(f"\\{value:o}" if value < 256 else f"\\u{value:04x}" for value in values) + '"'
+
+def main() -> None:
+    delta_range = range(-MAX_DELTA, MAX_DELTA + 1)
+    danger_range = range(-DANGER_RADIUS_SQUARED, DANGER_RADIUS_SQUARED + 1)
+    danger_stamp = [dx * DANGER_WINDOW_SIZE + dy + DANGER_STAMP_OFFSET for dx in danger_range for dy in danger_range if dx * dx + dy * dy <= DANGER_RADIUS_SQUARED]
+
+    tables = [
+        ("Indexed by Direction.ordinal()", "ROTATE_LEFT", [rotate(i, 7) for i in range(9)]),
+        ("Indexed by Direction.ordinal()", "ROTATE_RIGHT", [rotate(i, 1) for i in range(9)]),
+        ("Indexed by Direction.ordinal()", "OPPOSITE", [rotate(i, 4) for i in range(9)]),
+        ("Indexed by Direction.ordinal(), offset of a packed location plus 65", "PACKED_OFFSETS", [(dx << 6) + dy + 65 for _, dx, dy in DIRECTIONS]),
+        ("Indexed by Direction.ordinal(), dx plus 1", "DELTA_X", [dx + 1 for _, dx, _ in DIRECTIONS]),
+        ("Indexed by Direction.ordinal(), dy plus 1", "DELTA_Y", [dy + 1 for _, _, dy in DIRECTIONS]),
+        (f"Indexed by (dx + {MAX_DELTA}) * {2 * MAX_DELTA + 1} + (dy + {MAX_DELTA}), Direction.ordinal() of MapLocation.directionTo", "DIRECTION_TO", [direction_to(dx, dy) for dx in delta_range for dy in delta_range]),
+        (f"Window index offsets of the tiles within distance squared {DANGER_RADIUS_SQUARED}, plus {DANGER_STAMP_OFFSET}", "DANGER_STAMP", danger_stamp),
+    ]
+
+    content = f"""
+package camel_case;
+
+// Generated by scripts/generate_tables.py
+public class Tables {{
+    public static final int MAX_DELTA = {MAX_DELTA};
+    public static final int DELTA_SIZE = {2 * MAX_DELTA + 1};
+
+    public static final int DANGER_RADIUS_SQUARED = {DANGER_RADIUS_SQUARED};
+    public static final int DANGER_WINDOW_RADIUS = {DANGER_WINDOW_RADIUS};
+    public static final int DANGER_WINDOW_SIZE = {DANGER_WINDOW_SIZE};
+    public static final int DANGER_STAMP_OFFSET = {DANGER_STAMP_OFFSET};
+
+    public static final int VISION_OFFSET_BIAS = {VISION_OFFSET_BIAS};
+    """.strip() + "\n"
+
+    for comment, name, values in tables:
+        content += f"""
+    // {comment}
+    public static final String {name} = {to_java_string(values)};
+        """.rstrip() + "\n"
+
+    content += f"""
+    // Indexed by Direction.ordinal() of the last move, ((dx + {VISION_OFFSET_BIAS}) << 4) | (dy + {VISION_OFFSET_BIAS}) of the tiles that became visible
+    public static final String[] NEW_VISION = {{
+        """.rstrip() + "\n"
+
+    for i, (_, dx, dy) in enumerate(DIRECTIONS):
+        separator = "," if i < len(DIRECTIONS) - 1 else ""
+        content += f"        {to_java_string(new_vision_offsets(dx, dy))}{separator}\n"
+
+    content += "    };\n"
+    content += "}"
+
+    output_file = Path(__file__).parent.parent / "src" / "camel_case" / "Tables.java"
+    with output_file.open("w+", encoding="utf-8") as file:
+        file.write(content.strip() + "\n")
+
+if __name__ == "__main__":
+    main()
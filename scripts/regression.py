@@ -0,0 +1,154 @@
+import math
+import re
+import subprocess
+import sys
+from argparse import ArgumentParser
+from dataclasses import dataclass, field
+from datetime import datetime
+from multiprocessing.pool import ThreadPool
+from pathlib import Path
+from rich.console import Console
+from rich.table import Table
+
+OVERFLOW_PATTERN = re.compile(r"Bytecode overflow: (\d+) ")
+HIGH_USAGE_PATTERN = re.compile(r"High bytecode usage: (\d+) ")
+
+@dataclass
+class VersionStatistics:
+    matches: int = 0
+    overflows: int = 0
+    high_usage_turns: int = 0
+    # Usage of every overflow and high usage turn, the only per-turn lines all versions print
+    logged_bytecodes: list[int] = field(default_factory=list)
+
+    def merge(self, other: "VersionStatistics") -> None:
+        self.matches += other.matches
+        self.overflows += other.overflows
+        self.high_usage_turns += other.high_usage_turns
+        self.logged_bytecodes.extend(other.logged_bytecodes)
+
+    @property
+    def max_bytecodes(self) -> int:
+        return max(self.logged_bytecodes, default=0)
+
+    def get_percentile(self, percentile: int) -> int | None:
+        if len(self.logged_bytecodes) == 0:
+            return None
+
+        values = sorted(self.logged_bytecodes)
+        return values[min(len(values) - 1, math.ceil(len(values) * percentile / 100) - 1)]
+
+def run_match(version: str, opponent: str, map: str, timestamp: str) -> VersionStatistics:
+    replay_name = f"replays/regression-{timestamp}-{version}-vs-{opponent}-on-{map}.bc24"
+
+    process = subprocess.run([
+        str(Path(__file__).parent.parent / "gradlew"),
+        "run",
+        "-x", "unpackClient",
+        "-x", "checkForUpdates",
+        f"-PteamA={version}",
+        f"-PteamB={opponent}",
+        f"-Pmaps={map}",
+        f"-PreplayPath={replay_name}",
+        "-PoutputVerbose=true"
+    ], stdout=subprocess.PIPE, stderr=subprocess.STDOUT)
+
+    stdout = process.stdout.decode("utf-8")
+
+    if process.returncode != 0:
+        print(f"Gradle exited with status code {process.returncode} after running {version} vs. {opponent} on {map}\n{stdout}")
+        sys.exit(process.returncode)
+
+    stats = VersionStatistics(matches=1)
+
+    for line in stdout.splitlines():
+        # Only count team A, the opponent may be the same version
+        if not line.startswith("[A:"):
+            continue
+
+        if (match := OVERFLOW_PATTERN.search(line)) is not None:
+            stats.overflows += 1
+            stats.logged_bytecodes.append(int(match.group(1)))
+        elif (match := HIGH_USAGE_PATTERN.search(line)) is not None:
+            stats.high_usage_turns += 1
+            stats.logged_bytecodes.append(int(match.group(1)))
+
+    print(f"Finished {version} vs. {opponent} on {map}")
+    return stats
+
+def format_percentile(value: int | None) -> str:
+    return f"{value:,}" if value is not None else "-"
+
+def main() -> None:
+    parser = ArgumentParser(description="Compare the bytecode usage of all versions of the bot on a fixed set of maps.")
+    parser.add_argument("versions", type=str, nargs="*", help="names of the versions to compare, defaults to all camel_case versions")
+    parser.add_argument("--opponent", type=str, default=None, help="name of the opponent, defaults to the version itself")
+    parser.add_argument("--maps", type=str, default="DefaultSmall,DefaultMedium,DefaultLarge,DefaultHuge", help="comma-separated maps to play on")
+    parser.add_argument("--threshold", type=float, default=5.0, help="p99 increase in percent that counts as a regression")
+
+    args = parser.parse_args()
+
+    versions = args.versions
+    if len(versions) == 0:
+        src_directory = Path(__file__).parent.parent / "src"
+        versions = sorted(directory.name for directory in src_directory.iterdir() if directory.name.startswith("camel_case_v"))
+        versions.append("camel_case")
+
+    maps = args.maps.split(",")
+
+    build_proc = subprocess.run([str(Path(__file__).parent.parent / "gradlew"), "build", "-x", "checkForUpdates"])
+    if build_proc.returncode != 0:
+        sys.exit(build_proc.returncode)
+
+    timestamp = datetime.now().strftime("%Y-%m-%d_%H-%M-%S")
+    matches = []
+    for version in versions:
+        for map in maps:
+            matches.append((version, args.opponent or version, map, timestamp))
+
+    with ThreadPool(6) as pool:
+        results = pool.starmap(run_match, matches)
+
+    stats_by_version = {version: VersionStatistics() for version in versions}
+    for (version, _, _, _), stats in zip(matches, results):
+        stats_by_version[version].merge(stats)
+
+    table = Table(title=f"Bytecode usage on {', '.join(maps)}")
+
+    for column in ["Version", "Overflows", "High usage turns", "Max", "p50", "p90", "p99", "Regression"]:
+        table.add_column(column, style="bold" if column == "Version" else None, overflow="fold")
+
+    previous_stats = None
+    for version in versions:
+        stats = stats_by_version[version]
+
+        regressions = []
+        if previous_stats is not None:
+            if stats.overflows > previous_stats.overflows:
+                regressions.append(f"overflows +{stats.overflows - previous_stats.overflows}")
+
+            p99 = stats.get_percentile(99)
+            previous_p99 = previous_stats.get_percentile(99)
+            if p99 is not None and previous_p99 is not None:
+                p99_increase = (p99 - previous_p99) / previous_p99 * 100
+                if p99_increase > args.threshold:
+                    regressions.append(f"p99 +{p99_increase:,.1f}%")
+
+        table.add_row(
+            version,
+            str(stats.overflows),
+            str(stats.high_usage_turns),
+            f"{stats.max_bytecodes:,}",
+            format_percentile(stats.get_percentile(50)),
+            format_percentile(stats.get_percentile(90)),
+            format_percentile(stats.get_percentile(99)),
+            f"[red]{', '.join(regressions)}[/]" if len(regressions) > 0 else ""
+        )
+
+        previous_stats = stats
+
+    Console(highlight=False).print(table)
+    print("Percentiles are taken over the overflow and high usage turns, which every version prints")
+
+if __name__ == "__main__":
+    main()
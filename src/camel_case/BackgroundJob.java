@@ -0,0 +1,8 @@
+package camel_case;
+
+import battlecode.common.GameActionException;
+
+public interface BackgroundJob {
+    // Works until finished or until BackgroundJobs.hasBytecodesLeft() returns false, returns whether it finished
+    boolean run() throws GameActionException;
+}
@@ -0,0 +1,48 @@
+package camel_case;
+
+import battlecode.common.Clock;
+import battlecode.common.GameActionException;
+
+public class BackgroundJobs {
+    private static final int SAFETY_MARGIN = 1000;
+    private static final int CAPACITY = 16;
+
+    private static BackgroundJob[] jobs = new BackgroundJob[CAPACITY];
+    private static int jobCount = 0;
+
+    public static boolean add(BackgroundJob job) {
+        if (jobCount == CAPACITY || isQueued(job)) {
+            return false;
+        }
+
+        jobs[jobCount] = job;
+        jobCount++;
+        return true;
+    }
+
+    public static boolean isQueued(BackgroundJob job) {
+        for (int i = jobCount; --i >= 0; ) {
+            if (jobs[i] == job) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public static boolean hasBytecodesLeft() {
+        return Clock.getBytecodesLeft() > SAFETY_MARGIN;
+    }
+
+    public static void run() throws GameActionException {
+        while (jobCount > 0 && hasBytecodesLeft()) {
+            if (!jobs[0].run()) {
+                return;
+            }
+
+            jobCount--;
+            System.arraycopy(jobs, 1, jobs, 0, jobCount);
+            jobs[jobCount] = null;
+        }
+    }
+}
@@ -2,7 +2,6 @@ package camel_case;
 
 import battlecode.common.Direction;
 import battlecode.common.GameActionException;
-import battlecode.common.GameConstants;
 import battlecode.common.MapLocation;
 
 // Generated by scripts/generate_bellman_ford.py
@@ -70,399 +69,399 @@ public class BellmanFordNavigator extends Globals {
             return null;
         }
 
-        boolean checkOpponents = rc.senseNearbyRobots(GameConstants.VISION_RADIUS_SQUARED, opponentTeam).length > 0;
+        boolean checkOpponents = DangerField.hasOpponents();
 
         int distance1 = 1_000_000;
         Direction direction1 = null;
-        int weight1 = canVisit1 ? (rc.senseMapInfo(location1).isWater() ? 3 : 1) + (checkOpponents ? rc.senseNearbyRobots(location1, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight1 = canVisit1 ? (rc.senseMapInfo(location1).isWater() ? 3 : 1) + (checkOpponents ? DangerField.get(location1) : 0) : 1_000_000;
 
         int distance2 = 1_000_000;
         Direction direction2 = null;
-        int weight2 = canVisit2 ? (rc.senseMapInfo(location2).isWater() ? 3 : 1) + (checkOpponents ? rc.senseNearbyRobots(location2, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight2 = canVisit2 ? (rc.senseMapInfo(location2).isWater() ? 3 : 1) + (checkOpponents ? DangerField.get(location2) : 0) : 1_000_000;
 
         int distance3 = 1_000_000;
         Direction direction3 = null;
-        int weight3 = canVisit3 ? (rc.senseMapInfo(location3).isWater() ? 3 : 1) + (checkOpponents ? rc.senseNearbyRobots(location3, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight3 = canVisit3 ? (rc.senseMapInfo(location3).isWater() ? 3 : 1) + (checkOpponents ? DangerField.get(location3) : 0) : 1_000_000;
 
         int distance4 = 1_000_000;
         Direction direction4 = null;
-        int weight4 = canVisit4 ? (rc.senseMapInfo(location4).isWater() ? 3 : 1) + (checkOpponents ? rc.senseNearbyRobots(location4, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight4 = canVisit4 ? (rc.senseMapInfo(location4).isWater() ? 3 : 1) + (checkOpponents ? DangerField.get(location4) : 0) : 1_000_000;
 
         int distance5 = 1_000_000;
         Direction direction5 = null;
-        int weight5 = canVisit5 ? (rc.senseMapInfo(location5).isWater() ? 3 : 1) + (checkOpponents ? rc.senseNearbyRobots(location5, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight5 = canVisit5 ? (rc.senseMapInfo(location5).isWater() ? 3 : 1) + (checkOpponents ? DangerField.get(location5) : 0) : 1_000_000;
 
         int distance6 = 1_000_000;
         Direction direction6 = null;
-        int weight6 = canVisit6 ? (rc.senseMapInfo(location6).isWater() ? 3 : 1) + (checkOpponents ? rc.senseNearbyRobots(location6, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight6 = canVisit6 ? (rc.senseMapInfo(location6).isWater() ? 3 : 1) + (checkOpponents ? DangerField.get(location6) : 0) : 1_000_000;
 
         int distance7 = 1_000_000;
         Direction direction7 = null;
-        int weight7 = canVisit7 ? (rc.senseMapInfo(location7).isWater() ? 3 : 1) + (checkOpponents ? rc.senseNearbyRobots(location7, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight7 = canVisit7 ? (rc.senseMapInfo(location7).isWater() ? 3 : 1) + (checkOpponents ? DangerField.get(location7) : 0) : 1_000_000;
 
         int distance8 = 1_000_000;
         Direction direction8 = null;
-        int weight8 = canVisit8 ? (rc.senseMapInfo(location8).isWater() ? 3 : 1) + (checkOpponents ? rc.senseNearbyRobots(location8, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight8 = canVisit8 ? (rc.senseMapInfo(location8).isWater() ? 3 : 1) + (checkOpponents ? DangerField.get(location8) : 0) : 1_000_000;
 
         MapLocation location9 = location1.add(Direction.WEST);
         boolean canVisit9 = rc.canSenseLocation(location9) && (rc.sensePassability(location9) || (!hasFlag && rc.senseMapInfo(location9).isWater()));
         int distance9 = 1_000_000;
         Direction direction9 = null;
-        int weight9 = canVisit9 ? (rc.senseMapInfo(location9).isWater() ? 4 : 1) + (checkOpponents ? rc.senseNearbyRobots(location9, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight9 = canVisit9 ? (rc.senseMapInfo(location9).isWater() ? 4 : 1) + (checkOpponents ? DangerField.get(location9) : 0) : 1_000_000;
 
         MapLocation location12 = location2.add(Direction.EAST);
         boolean canVisit12 = rc.canSenseLocation(location12) && (rc.sensePassability(location12) || (!hasFlag && rc.senseMapInfo(location12).isWater()));
         int distance12 = 1_000_000;
         Direction direction12 = null;
-        int weight12 = canVisit12 ? (rc.senseMapInfo(location12).isWater() ? 4 : 1) + (checkOpponents ? rc.senseNearbyRobots(location12, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight12 = canVisit12 ? (rc.senseMapInfo(location12).isWater() ? 4 : 1) + (checkOpponents ? DangerField.get(location12) : 0) : 1_000_000;
 
         MapLocation location15 = location3.add(Direction.SOUTH);
         boolean canVisit15 = rc.canSenseLocation(location15) && (rc.sensePassability(location15) || (!hasFlag && rc.senseMapInfo(location15).isWater()));
         int distance15 = 1_000_000;
         Direction direction15 = null;
-        int weight15 = canVisit15 ? (rc.senseMapInfo(location15).isWater() ? 4 : 1) + (checkOpponents ? rc.senseNearbyRobots(location15, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight15 = canVisit15 ? (rc.senseMapInfo(location15).isWater() ? 4 : 1) + (checkOpponents ? DangerField.get(location15) : 0) : 1_000_000;
 
         MapLocation location18 = location4.add(Direction.NORTH);
         boolean canVisit18 = rc.canSenseLocation(location18) && (rc.sensePassability(location18) || (!hasFlag && rc.senseMapInfo(location18).isWater()));
         int distance18 = 1_000_000;
         Direction direction18 = null;
-        int weight18 = canVisit18 ? (rc.senseMapInfo(location18).isWater() ? 4 : 1) + (checkOpponents ? rc.senseNearbyRobots(location18, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight18 = canVisit18 ? (rc.senseMapInfo(location18).isWater() ? 4 : 1) + (checkOpponents ? DangerField.get(location18) : 0) : 1_000_000;
 
         MapLocation location10 = location1.add(Direction.SOUTHWEST);
         boolean canVisit10 = rc.canSenseLocation(location10) && (rc.sensePassability(location10) || (!hasFlag && rc.senseMapInfo(location10).isWater()));
         int distance10 = 1_000_000;
         Direction direction10 = null;
-        int weight10 = canVisit10 ? (rc.senseMapInfo(location10).isWater() ? 4 : 1) + (checkOpponents ? rc.senseNearbyRobots(location10, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight10 = canVisit10 ? (rc.senseMapInfo(location10).isWater() ? 4 : 1) + (checkOpponents ? DangerField.get(location10) : 0) : 1_000_000;
 
         MapLocation location11 = location1.add(Direction.NORTHWEST);
         boolean canVisit11 = rc.canSenseLocation(location11) && (rc.sensePassability(location11) || (!hasFlag && rc.senseMapInfo(location11).isWater()));
         int distance11 = 1_000_000;
         Direction direction11 = null;
-        int weight11 = canVisit11 ? (rc.senseMapInfo(location11).isWater() ? 4 : 1) + (checkOpponents ? rc.senseNearbyRobots(location11, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight11 = canVisit11 ? (rc.senseMapInfo(location11).isWater() ? 4 : 1) + (checkOpponents ? DangerField.get(location11) : 0) : 1_000_000;
 
         MapLocation location13 = location2.add(Direction.SOUTHEAST);
         boolean canVisit13 = rc.canSenseLocation(location13) && (rc.sensePassability(location13) || (!hasFlag && rc.senseMapInfo(location13).isWater()));
         int distance13 = 1_000_000;
         Direction direction13 = null;
-        int weight13 = canVisit13 ? (rc.senseMapInfo(location13).isWater() ? 4 : 1) + (checkOpponents ? rc.senseNearbyRobots(location13, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight13 = canVisit13 ? (rc.senseMapInfo(location13).isWater() ? 4 : 1) + (checkOpponents ? DangerField.get(location13) : 0) : 1_000_000;
 
         MapLocation location14 = location2.add(Direction.NORTHEAST);
         boolean canVisit14 = rc.canSenseLocation(location14) && (rc.sensePassability(location14) || (!hasFlag && rc.senseMapInfo(location14).isWater()));
         int distance14 = 1_000_000;
         Direction direction14 = null;
-        int weight14 = canVisit14 ? (rc.senseMapInfo(location14).isWater() ? 4 : 1) + (checkOpponents ? rc.senseNearbyRobots(location14, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight14 = canVisit14 ? (rc.senseMapInfo(location14).isWater() ? 4 : 1) + (checkOpponents ? DangerField.get(location14) : 0) : 1_000_000;
 
         MapLocation location16 = location3.add(Direction.SOUTHWEST);
         boolean canVisit16 = rc.canSenseLocation(location16) && (rc.sensePassability(location16) || (!hasFlag && rc.senseMapInfo(location16).isWater()));
         int distance16 = 1_000_000;
         Direction direction16 = null;
-        int weight16 = canVisit16 ? (rc.senseMapInfo(location16).isWater() ? 4 : 1) + (checkOpponents ? rc.senseNearbyRobots(location16, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight16 = canVisit16 ? (rc.senseMapInfo(location16).isWater() ? 4 : 1) + (checkOpponents ? DangerField.get(location16) : 0) : 1_000_000;
 
         MapLocation location17 = location3.add(Direction.SOUTHEAST);
         boolean canVisit17 = rc.canSenseLocation(location17) && (rc.sensePassability(location17) || (!hasFlag && rc.senseMapInfo(location17).isWater()));
         int distance17 = 1_000_000;
         Direction direction17 = null;
-        int weight17 = canVisit17 ? (rc.senseMapInfo(location17).isWater() ? 4 : 1) + (checkOpponents ? rc.senseNearbyRobots(location17, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight17 = canVisit17 ? (rc.senseMapInfo(location17).isWater() ? 4 : 1) + (checkOpponents ? DangerField.get(location17) : 0) : 1_000_000;
 
         MapLocation location19 = location4.add(Direction.NORTHWEST);
         boolean canVisit19 = rc.canSenseLocation(location19) && (rc.sensePassability(location19) || (!hasFlag && rc.senseMapInfo(location19).isWater()));
         int distance19 = 1_000_000;
         Direction direction19 = null;
-        int weight19 = canVisit19 ? (rc.senseMapInfo(location19).isWater() ? 4 : 1) + (checkOpponents ? rc.senseNearbyRobots(location19, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight19 = canVisit19 ? (rc.senseMapInfo(location19).isWater() ? 4 : 1) + (checkOpponents ? DangerField.get(location19) : 0) : 1_000_000;
 
         MapLocation location20 = location4.add(Direction.NORTHEAST);
         boolean canVisit20 = rc.canSenseLocation(location20) && (rc.sensePassability(location20) || (!hasFlag && rc.senseMapInfo(location20).isWater()));
         int distance20 = 1_000_000;
         Direction direction20 = null;
-        int weight20 = canVisit20 ? (rc.senseMapInfo(location20).isWater() ? 4 : 1) + (checkOpponents ? rc.senseNearbyRobots(location20, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight20 = canVisit20 ? (rc.senseMapInfo(location20).isWater() ? 4 : 1) + (checkOpponents ? DangerField.get(location20) : 0) : 1_000_000;
 
         MapLocation location21 = location5.add(Direction.SOUTHWEST);
         boolean canVisit21 = rc.canSenseLocation(location21) && (rc.sensePassability(location21) || (!hasFlag && rc.senseMapInfo(location21).isWater()));
         int distance21 = 1_000_000;
         Direction direction21 = null;
-        int weight21 = canVisit21 ? (rc.senseMapInfo(location21).isWater() ? 4 : 1) + (checkOpponents ? rc.senseNearbyRobots(location21, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight21 = canVisit21 ? (rc.senseMapInfo(location21).isWater() ? 4 : 1) + (checkOpponents ? DangerField.get(location21) : 0) : 1_000_000;
 
         MapLocation location22 = location6.add(Direction.NORTHWEST);
         boolean canVisit22 = rc.canSenseLocation(location22) && (rc.sensePassability(location22) || (!hasFlag && rc.senseMapInfo(location22).isWater()));
         int distance22 = 1_000_000;
         Direction direction22 = null;
-        int weight22 = canVisit22 ? (rc.senseMapInfo(location22).isWater() ? 4 : 1) + (checkOpponents ? rc.senseNearbyRobots(location22, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight22 = canVisit22 ? (rc.senseMapInfo(location22).isWater() ? 4 : 1) + (checkOpponents ? DangerField.get(location22) : 0) : 1_000_000;
 
         MapLocation location23 = location7.add(Direction.SOUTHEAST);
         boolean canVisit23 = rc.canSenseLocation(location23) && (rc.sensePassability(location23) || (!hasFlag && rc.senseMapInfo(location23).isWater()));
         int distance23 = 1_000_000;
         Direction direction23 = null;
-        int weight23 = canVisit23 ? (rc.senseMapInfo(location23).isWater() ? 4 : 1) + (checkOpponents ? rc.senseNearbyRobots(location23, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight23 = canVisit23 ? (rc.senseMapInfo(location23).isWater() ? 4 : 1) + (checkOpponents ? DangerField.get(location23) : 0) : 1_000_000;
 
         MapLocation location24 = location8.add(Direction.NORTHEAST);
         boolean canVisit24 = rc.canSenseLocation(location24) && (rc.sensePassability(location24) || (!hasFlag && rc.senseMapInfo(location24).isWater()));
         int distance24 = 1_000_000;
         Direction direction24 = null;
-        int weight24 = canVisit24 ? (rc.senseMapInfo(location24).isWater() ? 4 : 1) + (checkOpponents ? rc.senseNearbyRobots(location24, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight24 = canVisit24 ? (rc.senseMapInfo(location24).isWater() ? 4 : 1) + (checkOpponents ? DangerField.get(location24) : 0) : 1_000_000;
 
         MapLocation location25 = location9.add(Direction.WEST);
         boolean canVisit25 = rc.canSenseLocation(location25) && (rc.sensePassability(location25) || (!hasFlag && rc.senseMapInfo(location25).isWater()));
         int distance25 = 1_000_000;
         Direction direction25 = null;
-        int weight25 = canVisit25 ? (rc.senseMapInfo(location25).isWater() ? 5 : 1) + (checkOpponents ? rc.senseNearbyRobots(location25, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight25 = canVisit25 ? (rc.senseMapInfo(location25).isWater() ? 5 : 1) + (checkOpponents ? DangerField.get(location25) : 0) : 1_000_000;
 
         MapLocation location30 = location12.add(Direction.EAST);
         boolean canVisit30 = rc.canSenseLocation(location30) && (rc.sensePassability(location30) || (!hasFlag && rc.senseMapInfo(location30).isWater()));
         int distance30 = 1_000_000;
         Direction direction30 = null;
-        int weight30 = canVisit30 ? (rc.senseMapInfo(location30).isWater() ? 5 : 1) + (checkOpponents ? rc.senseNearbyRobots(location30, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight30 = canVisit30 ? (rc.senseMapInfo(location30).isWater() ? 5 : 1) + (checkOpponents ? DangerField.get(location30) : 0) : 1_000_000;
 
         MapLocation location35 = location15.add(Direction.SOUTH);
         boolean canVisit35 = rc.canSenseLocation(location35) && (rc.sensePassability(location35) || (!hasFlag && rc.senseMapInfo(location35).isWater()));
         int distance35 = 1_000_000;
         Direction direction35 = null;
-        int weight35 = canVisit35 ? (rc.senseMapInfo(location35).isWater() ? 5 : 1) + (checkOpponents ? rc.senseNearbyRobots(location35, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight35 = canVisit35 ? (rc.senseMapInfo(location35).isWater() ? 5 : 1) + (checkOpponents ? DangerField.get(location35) : 0) : 1_000_000;
 
         MapLocation location40 = location18.add(Direction.NORTH);
         boolean canVisit40 = rc.canSenseLocation(location40) && (rc.sensePassability(location40) || (!hasFlag && rc.senseMapInfo(location40).isWater()));
         int distance40 = 1_000_000;
         Direction direction40 = null;
-        int weight40 = canVisit40 ? (rc.senseMapInfo(location40).isWater() ? 5 : 1) + (checkOpponents ? rc.senseNearbyRobots(location40, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight40 = canVisit40 ? (rc.senseMapInfo(location40).isWater() ? 5 : 1) + (checkOpponents ? DangerField.get(location40) : 0) : 1_000_000;
 
         MapLocation location26 = location9.add(Direction.SOUTHWEST);
         boolean canVisit26 = rc.canSenseLocation(location26) && (rc.sensePassability(location26) || (!hasFlag && rc.senseMapInfo(location26).isWater()));
         int distance26 = 1_000_000;
         Direction direction26 = null;
-        int weight26 = canVisit26 ? (rc.senseMapInfo(location26).isWater() ? 5 : 1) + (checkOpponents ? rc.senseNearbyRobots(location26, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight26 = canVisit26 ? (rc.senseMapInfo(location26).isWater() ? 5 : 1) + (checkOpponents ? DangerField.get(location26) : 0) : 1_000_000;
 
         MapLocation location27 = location9.add(Direction.NORTHWEST);
         boolean canVisit27 = rc.canSenseLocation(location27) && (rc.sensePassability(location27) || (!hasFlag && rc.senseMapInfo(location27).isWater()));
         int distance27 = 1_000_000;
         Direction direction27 = null;
-        int weight27 = canVisit27 ? (rc.senseMapInfo(location27).isWater() ? 5 : 1) + (checkOpponents ? rc.senseNearbyRobots(location27, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight27 = canVisit27 ? (rc.senseMapInfo(location27).isWater() ? 5 : 1) + (checkOpponents ? DangerField.get(location27) : 0) : 1_000_000;
 
         MapLocation location31 = location12.add(Direction.SOUTHEAST);
         boolean canVisit31 = rc.canSenseLocation(location31) && (rc.sensePassability(location31) || (!hasFlag && rc.senseMapInfo(location31).isWater()));
         int distance31 = 1_000_000;
         Direction direction31 = null;
-        int weight31 = canVisit31 ? (rc.senseMapInfo(location31).isWater() ? 5 : 1) + (checkOpponents ? rc.senseNearbyRobots(location31, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight31 = canVisit31 ? (rc.senseMapInfo(location31).isWater() ? 5 : 1) + (checkOpponents ? DangerField.get(location31) : 0) : 1_000_000;
 
         MapLocation location32 = location12.add(Direction.NORTHEAST);
         boolean canVisit32 = rc.canSenseLocation(location32) && (rc.sensePassability(location32) || (!hasFlag && rc.senseMapInfo(location32).isWater()));
         int distance32 = 1_000_000;
         Direction direction32 = null;
-        int weight32 = canVisit32 ? (rc.senseMapInfo(location32).isWater() ? 5 : 1) + (checkOpponents ? rc.senseNearbyRobots(location32, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight32 = canVisit32 ? (rc.senseMapInfo(location32).isWater() ? 5 : 1) + (checkOpponents ? DangerField.get(location32) : 0) : 1_000_000;
 
         MapLocation location36 = location15.add(Direction.SOUTHWEST);
         boolean canVisit36 = rc.canSenseLocation(location36) && (rc.sensePassability(location36) || (!hasFlag && rc.senseMapInfo(location36).isWater()));
         int distance36 = 1_000_000;
         Direction direction36 = null;
-        int weight36 = canVisit36 ? (rc.senseMapInfo(location36).isWater() ? 5 : 1) + (checkOpponents ? rc.senseNearbyRobots(location36, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight36 = canVisit36 ? (rc.senseMapInfo(location36).isWater() ? 5 : 1) + (checkOpponents ? DangerField.get(location36) : 0) : 1_000_000;
 
         MapLocation location37 = location15.add(Direction.SOUTHEAST);
         boolean canVisit37 = rc.canSenseLocation(location37) && (rc.sensePassability(location37) || (!hasFlag && rc.senseMapInfo(location37).isWater()));
         int distance37 = 1_000_000;
         Direction direction37 = null;
-        int weight37 = canVisit37 ? (rc.senseMapInfo(location37).isWater() ? 5 : 1) + (checkOpponents ? rc.senseNearbyRobots(location37, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight37 = canVisit37 ? (rc.senseMapInfo(location37).isWater() ? 5 : 1) + (checkOpponents ? DangerField.get(location37) : 0) : 1_000_000;
 
         MapLocation location41 = location18.add(Direction.NORTHWEST);
         boolean canVisit41 = rc.canSenseLocation(location41) && (rc.sensePassability(location41) || (!hasFlag && rc.senseMapInfo(location41).isWater()));
         int distance41 = 1_000_000;
         Direction direction41 = null;
-        int weight41 = canVisit41 ? (rc.senseMapInfo(location41).isWater() ? 5 : 1) + (checkOpponents ? rc.senseNearbyRobots(location41, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight41 = canVisit41 ? (rc.senseMapInfo(location41).isWater() ? 5 : 1) + (checkOpponents ? DangerField.get(location41) : 0) : 1_000_000;
 
         MapLocation location42 = location18.add(Direction.NORTHEAST);
         boolean canVisit42 = rc.canSenseLocation(location42) && (rc.sensePassability(location42) || (!hasFlag && rc.senseMapInfo(location42).isWater()));
         int distance42 = 1_000_000;
         Direction direction42 = null;
-        int weight42 = canVisit42 ? (rc.senseMapInfo(location42).isWater() ? 5 : 1) + (checkOpponents ? rc.senseNearbyRobots(location42, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight42 = canVisit42 ? (rc.senseMapInfo(location42).isWater() ? 5 : 1) + (checkOpponents ? DangerField.get(location42) : 0) : 1_000_000;
 
         MapLocation location28 = location10.add(Direction.SOUTHWEST);
         boolean canVisit28 = rc.canSenseLocation(location28) && (rc.sensePassability(location28) || (!hasFlag && rc.senseMapInfo(location28).isWater()));
         int distance28 = 1_000_000;
         Direction direction28 = null;
-        int weight28 = canVisit28 ? (rc.senseMapInfo(location28).isWater() ? 5 : 1) + (checkOpponents ? rc.senseNearbyRobots(location28, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight28 = canVisit28 ? (rc.senseMapInfo(location28).isWater() ? 5 : 1) + (checkOpponents ? DangerField.get(location28) : 0) : 1_000_000;
 
         MapLocation location29 = location11.add(Direction.NORTHWEST);
         boolean canVisit29 = rc.canSenseLocation(location29) && (rc.sensePassability(location29) || (!hasFlag && rc.senseMapInfo(location29).isWater()));
         int distance29 = 1_000_000;
         Direction direction29 = null;
-        int weight29 = canVisit29 ? (rc.senseMapInfo(location29).isWater() ? 5 : 1) + (checkOpponents ? rc.senseNearbyRobots(location29, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight29 = canVisit29 ? (rc.senseMapInfo(location29).isWater() ? 5 : 1) + (checkOpponents ? DangerField.get(location29) : 0) : 1_000_000;
 
         MapLocation location33 = location13.add(Direction.SOUTHEAST);
         boolean canVisit33 = rc.canSenseLocation(location33) && (rc.sensePassability(location33) || (!hasFlag && rc.senseMapInfo(location33).isWater()));
         int distance33 = 1_000_000;
         Direction direction33 = null;
-        int weight33 = canVisit33 ? (rc.senseMapInfo(location33).isWater() ? 5 : 1) + (checkOpponents ? rc.senseNearbyRobots(location33, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight33 = canVisit33 ? (rc.senseMapInfo(location33).isWater() ? 5 : 1) + (checkOpponents ? DangerField.get(location33) : 0) : 1_000_000;
 
         MapLocation location34 = location14.add(Direction.NORTHEAST);
         boolean canVisit34 = rc.canSenseLocation(location34) && (rc.sensePassability(location34) || (!hasFlag && rc.senseMapInfo(location34).isWater()));
         int distance34 = 1_000_000;
         Direction direction34 = null;
-        int weight34 = canVisit34 ? (rc.senseMapInfo(location34).isWater() ? 5 : 1) + (checkOpponents ? rc.senseNearbyRobots(location34, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight34 = canVisit34 ? (rc.senseMapInfo(location34).isWater() ? 5 : 1) + (checkOpponents ? DangerField.get(location34) : 0) : 1_000_000;
 
         MapLocation location38 = location16.add(Direction.SOUTHWEST);
         boolean canVisit38 = rc.canSenseLocation(location38) && (rc.sensePassability(location38) || (!hasFlag && rc.senseMapInfo(location38).isWater()));
         int distance38 = 1_000_000;
         Direction direction38 = null;
-        int weight38 = canVisit38 ? (rc.senseMapInfo(location38).isWater() ? 5 : 1) + (checkOpponents ? rc.senseNearbyRobots(location38, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight38 = canVisit38 ? (rc.senseMapInfo(location38).isWater() ? 5 : 1) + (checkOpponents ? DangerField.get(location38) : 0) : 1_000_000;
 
         MapLocation location39 = location17.add(Direction.SOUTHEAST);
         boolean canVisit39 = rc.canSenseLocation(location39) && (rc.sensePassability(location39) || (!hasFlag && rc.senseMapInfo(location39).isWater()));
         int distance39 = 1_000_000;
         Direction direction39 = null;
-        int weight39 = canVisit39 ? (rc.senseMapInfo(location39).isWater() ? 5 : 1) + (checkOpponents ? rc.senseNearbyRobots(location39, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight39 = canVisit39 ? (rc.senseMapInfo(location39).isWater() ? 5 : 1) + (checkOpponents ? DangerField.get(location39) : 0) : 1_000_000;
 
         MapLocation location43 = location19.add(Direction.NORTHWEST);
         boolean canVisit43 = rc.canSenseLocation(location43) && (rc.sensePassability(location43) || (!hasFlag && rc.senseMapInfo(location43).isWater()));
         int distance43 = 1_000_000;
         Direction direction43 = null;
-        int weight43 = canVisit43 ? (rc.senseMapInfo(location43).isWater() ? 5 : 1) + (checkOpponents ? rc.senseNearbyRobots(location43, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight43 = canVisit43 ? (rc.senseMapInfo(location43).isWater() ? 5 : 1) + (checkOpponents ? DangerField.get(location43) : 0) : 1_000_000;
 
         MapLocation location44 = location20.add(Direction.NORTHEAST);
         boolean canVisit44 = rc.canSenseLocation(location44) && (rc.sensePassability(location44) || (!hasFlag && rc.senseMapInfo(location44).isWater()));
         int distance44 = 1_000_000;
         Direction direction44 = null;
-        int weight44 = canVisit44 ? (rc.senseMapInfo(location44).isWater() ? 5 : 1) + (checkOpponents ? rc.senseNearbyRobots(location44, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight44 = canVisit44 ? (rc.senseMapInfo(location44).isWater() ? 5 : 1) + (checkOpponents ? DangerField.get(location44) : 0) : 1_000_000;
 
         MapLocation location49 = location25.add(Direction.WEST);
         boolean canVisit49 = rc.canSenseLocation(location49) && (rc.sensePassability(location49) || (!hasFlag && rc.senseMapInfo(location49).isWater()));
         int distance49 = 1_000_000;
         Direction direction49 = null;
-        int weight49 = canVisit49 ? (rc.senseMapInfo(location49).isWater() ? 6 : 1) + (checkOpponents ? rc.senseNearbyRobots(location49, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight49 = canVisit49 ? (rc.senseMapInfo(location49).isWater() ? 6 : 1) + (checkOpponents ? DangerField.get(location49) : 0) : 1_000_000;
 
         MapLocation location54 = location30.add(Direction.EAST);
         boolean canVisit54 = rc.canSenseLocation(location54) && (rc.sensePassability(location54) || (!hasFlag && rc.senseMapInfo(location54).isWater()));
         int distance54 = 1_000_000;
         Direction direction54 = null;
-        int weight54 = canVisit54 ? (rc.senseMapInfo(location54).isWater() ? 6 : 1) + (checkOpponents ? rc.senseNearbyRobots(location54, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight54 = canVisit54 ? (rc.senseMapInfo(location54).isWater() ? 6 : 1) + (checkOpponents ? DangerField.get(location54) : 0) : 1_000_000;
 
         MapLocation location59 = location35.add(Direction.SOUTH);
         boolean canVisit59 = rc.canSenseLocation(location59) && (rc.sensePassability(location59) || (!hasFlag && rc.senseMapInfo(location59).isWater()));
         int distance59 = 1_000_000;
         Direction direction59 = null;
-        int weight59 = canVisit59 ? (rc.senseMapInfo(location59).isWater() ? 6 : 1) + (checkOpponents ? rc.senseNearbyRobots(location59, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight59 = canVisit59 ? (rc.senseMapInfo(location59).isWater() ? 6 : 1) + (checkOpponents ? DangerField.get(location59) : 0) : 1_000_000;
 
         MapLocation location64 = location40.add(Direction.NORTH);
         boolean canVisit64 = rc.canSenseLocation(location64) && (rc.sensePassability(location64) || (!hasFlag && rc.senseMapInfo(location64).isWater()));
         int distance64 = 1_000_000;
         Direction direction64 = null;
-        int weight64 = canVisit64 ? (rc.senseMapInfo(location64).isWater() ? 6 : 1) + (checkOpponents ? rc.senseNearbyRobots(location64, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight64 = canVisit64 ? (rc.senseMapInfo(location64).isWater() ? 6 : 1) + (checkOpponents ? DangerField.get(location64) : 0) : 1_000_000;
 
         MapLocation location50 = location25.add(Direction.SOUTHWEST);
         boolean canVisit50 = rc.canSenseLocation(location50) && (rc.sensePassability(location50) || (!hasFlag && rc.senseMapInfo(location50).isWater()));
         int distance50 = 1_000_000;
         Direction direction50 = null;
-        int weight50 = canVisit50 ? (rc.senseMapInfo(location50).isWater() ? 6 : 1) + (checkOpponents ? rc.senseNearbyRobots(location50, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight50 = canVisit50 ? (rc.senseMapInfo(location50).isWater() ? 6 : 1) + (checkOpponents ? DangerField.get(location50) : 0) : 1_000_000;
 
         MapLocation location51 = location25.add(Direction.NORTHWEST);
         boolean canVisit51 = rc.canSenseLocation(location51) && (rc.sensePassability(location51) || (!hasFlag && rc.senseMapInfo(location51).isWater()));
         int distance51 = 1_000_000;
         Direction direction51 = null;
-        int weight51 = canVisit51 ? (rc.senseMapInfo(location51).isWater() ? 6 : 1) + (checkOpponents ? rc.senseNearbyRobots(location51, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight51 = canVisit51 ? (rc.senseMapInfo(location51).isWater() ? 6 : 1) + (checkOpponents ? DangerField.get(location51) : 0) : 1_000_000;
 
         MapLocation location55 = location30.add(Direction.SOUTHEAST);
         boolean canVisit55 = rc.canSenseLocation(location55) && (rc.sensePassability(location55) || (!hasFlag && rc.senseMapInfo(location55).isWater()));
         int distance55 = 1_000_000;
         Direction direction55 = null;
-        int weight55 = canVisit55 ? (rc.senseMapInfo(location55).isWater() ? 6 : 1) + (checkOpponents ? rc.senseNearbyRobots(location55, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight55 = canVisit55 ? (rc.senseMapInfo(location55).isWater() ? 6 : 1) + (checkOpponents ? DangerField.get(location55) : 0) : 1_000_000;
 
         MapLocation location56 = location30.add(Direction.NORTHEAST);
         boolean canVisit56 = rc.canSenseLocation(location56) && (rc.sensePassability(location56) || (!hasFlag && rc.senseMapInfo(location56).isWater()));
         int distance56 = 1_000_000;
         Direction direction56 = null;
-        int weight56 = canVisit56 ? (rc.senseMapInfo(location56).isWater() ? 6 : 1) + (checkOpponents ? rc.senseNearbyRobots(location56, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight56 = canVisit56 ? (rc.senseMapInfo(location56).isWater() ? 6 : 1) + (checkOpponents ? DangerField.get(location56) : 0) : 1_000_000;
 
         MapLocation location60 = location35.add(Direction.SOUTHWEST);
         boolean canVisit60 = rc.canSenseLocation(location60) && (rc.sensePassability(location60) || (!hasFlag && rc.senseMapInfo(location60).isWater()));
         int distance60 = 1_000_000;
         Direction direction60 = null;
-        int weight60 = canVisit60 ? (rc.senseMapInfo(location60).isWater() ? 6 : 1) + (checkOpponents ? rc.senseNearbyRobots(location60, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight60 = canVisit60 ? (rc.senseMapInfo(location60).isWater() ? 6 : 1) + (checkOpponents ? DangerField.get(location60) : 0) : 1_000_000;
 
         MapLocation location61 = location35.add(Direction.SOUTHEAST);
         boolean canVisit61 = rc.canSenseLocation(location61) && (rc.sensePassability(location61) || (!hasFlag && rc.senseMapInfo(location61).isWater()));
         int distance61 = 1_000_000;
         Direction direction61 = null;
-        int weight61 = canVisit61 ? (rc.senseMapInfo(location61).isWater() ? 6 : 1) + (checkOpponents ? rc.senseNearbyRobots(location61, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight61 = canVisit61 ? (rc.senseMapInfo(location61).isWater() ? 6 : 1) + (checkOpponents ? DangerField.get(location61) : 0) : 1_000_000;
 
         MapLocation location65 = location40.add(Direction.NORTHWEST);
         boolean canVisit65 = rc.canSenseLocation(location65) && (rc.sensePassability(location65) || (!hasFlag && rc.senseMapInfo(location65).isWater()));
         int distance65 = 1_000_000;
         Direction direction65 = null;
-        int weight65 = canVisit65 ? (rc.senseMapInfo(location65).isWater() ? 6 : 1) + (checkOpponents ? rc.senseNearbyRobots(location65, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight65 = canVisit65 ? (rc.senseMapInfo(location65).isWater() ? 6 : 1) + (checkOpponents ? DangerField.get(location65) : 0) : 1_000_000;
 
         MapLocation location66 = location40.add(Direction.NORTHEAST);
         boolean canVisit66 = rc.canSenseLocation(location66) && (rc.sensePassability(location66) || (!hasFlag && rc.senseMapInfo(location66).isWater()));
         int distance66 = 1_000_000;
         Direction direction66 = null;
-        int weight66 = canVisit66 ? (rc.senseMapInfo(location66).isWater() ? 6 : 1) + (checkOpponents ? rc.senseNearbyRobots(location66, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight66 = canVisit66 ? (rc.senseMapInfo(location66).isWater() ? 6 : 1) + (checkOpponents ? DangerField.get(location66) : 0) : 1_000_000;
 
         MapLocation location45 = location21.add(Direction.SOUTHWEST);
         boolean canVisit45 = rc.canSenseLocation(location45) && (rc.sensePassability(location45) || (!hasFlag && rc.senseMapInfo(location45).isWater()));
         int distance45 = 1_000_000;
         Direction direction45 = null;
-        int weight45 = canVisit45 ? (rc.senseMapInfo(location45).isWater() ? 5 : 1) + (checkOpponents ? rc.senseNearbyRobots(location45, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight45 = canVisit45 ? (rc.senseMapInfo(location45).isWater() ? 5 : 1) + (checkOpponents ? DangerField.get(location45) : 0) : 1_000_000;
 
         MapLocation location46 = location22.add(Direction.NORTHWEST);
         boolean canVisit46 = rc.canSenseLocation(location46) && (rc.sensePassability(location46) || (!hasFlag && rc.senseMapInfo(location46).isWater()));
         int distance46 = 1_000_000;
         Direction direction46 = null;
-        int weight46 = canVisit46 ? (rc.senseMapInfo(location46).isWater() ? 5 : 1) + (checkOpponents ? rc.senseNearbyRobots(location46, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight46 = canVisit46 ? (rc.senseMapInfo(location46).isWater() ? 5 : 1) + (checkOpponents ? DangerField.get(location46) : 0) : 1_000_000;
 
         MapLocation location47 = location23.add(Direction.SOUTHEAST);
         boolean canVisit47 = rc.canSenseLocation(location47) && (rc.sensePassability(location47) || (!hasFlag && rc.senseMapInfo(location47).isWater()));
         int distance47 = 1_000_000;
         Direction direction47 = null;
-        int weight47 = canVisit47 ? (rc.senseMapInfo(location47).isWater() ? 5 : 1) + (checkOpponents ? rc.senseNearbyRobots(location47, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight47 = canVisit47 ? (rc.senseMapInfo(location47).isWater() ? 5 : 1) + (checkOpponents ? DangerField.get(location47) : 0) : 1_000_000;
 
         MapLocation location48 = location24.add(Direction.NORTHEAST);
         boolean canVisit48 = rc.canSenseLocation(location48) && (rc.sensePassability(location48) || (!hasFlag && rc.senseMapInfo(location48).isWater()));
         int distance48 = 1_000_000;
         Direction direction48 = null;
-        int weight48 = canVisit48 ? (rc.senseMapInfo(location48).isWater() ? 5 : 1) + (checkOpponents ? rc.senseNearbyRobots(location48, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight48 = canVisit48 ? (rc.senseMapInfo(location48).isWater() ? 5 : 1) + (checkOpponents ? DangerField.get(location48) : 0) : 1_000_000;
 
         MapLocation location52 = location26.add(Direction.SOUTHWEST);
         boolean canVisit52 = rc.canSenseLocation(location52) && (rc.sensePassability(location52) || (!hasFlag && rc.senseMapInfo(location52).isWater()));
         int distance52 = 1_000_000;
         Direction direction52 = null;
-        int weight52 = canVisit52 ? (rc.senseMapInfo(location52).isWater() ? 6 : 1) + (checkOpponents ? rc.senseNearbyRobots(location52, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight52 = canVisit52 ? (rc.senseMapInfo(location52).isWater() ? 6 : 1) + (checkOpponents ? DangerField.get(location52) : 0) : 1_000_000;
 
         MapLocation location53 = location27.add(Direction.NORTHWEST);
         boolean canVisit53 = rc.canSenseLocation(location53) && (rc.sensePassability(location53) || (!hasFlag && rc.senseMapInfo(location53).isWater()));
         int distance53 = 1_000_000;
         Direction direction53 = null;
-        int weight53 = canVisit53 ? (rc.senseMapInfo(location53).isWater() ? 6 : 1) + (checkOpponents ? rc.senseNearbyRobots(location53, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight53 = canVisit53 ? (rc.senseMapInfo(location53).isWater() ? 6 : 1) + (checkOpponents ? DangerField.get(location53) : 0) : 1_000_000;
 
         MapLocation location57 = location31.add(Direction.SOUTHEAST);
         boolean canVisit57 = rc.canSenseLocation(location57) && (rc.sensePassability(location57) || (!hasFlag && rc.senseMapInfo(location57).isWater()));
         int distance57 = 1_000_000;
         Direction direction57 = null;
-        int weight57 = canVisit57 ? (rc.senseMapInfo(location57).isWater() ? 6 : 1) + (checkOpponents ? rc.senseNearbyRobots(location57, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight57 = canVisit57 ? (rc.senseMapInfo(location57).isWater() ? 6 : 1) + (checkOpponents ? DangerField.get(location57) : 0) : 1_000_000;
 
         MapLocation location58 = location32.add(Direction.NORTHEAST);
         boolean canVisit58 = rc.canSenseLocation(location58) && (rc.sensePassability(location58) || (!hasFlag && rc.senseMapInfo(location58).isWater()));
         int distance58 = 1_000_000;
         Direction direction58 = null;
-        int weight58 = canVisit58 ? (rc.senseMapInfo(location58).isWater() ? 6 : 1) + (checkOpponents ? rc.senseNearbyRobots(location58, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight58 = canVisit58 ? (rc.senseMapInfo(location58).isWater() ? 6 : 1) + (checkOpponents ? DangerField.get(location58) : 0) : 1_000_000;
 
         MapLocation location62 = location36.add(Direction.SOUTHWEST);
         boolean canVisit62 = rc.canSenseLocation(location62) && (rc.sensePassability(location62) || (!hasFlag && rc.senseMapInfo(location62).isWater()));
         int distance62 = 1_000_000;
         Direction direction62 = null;
-        int weight62 = canVisit62 ? (rc.senseMapInfo(location62).isWater() ? 6 : 1) + (checkOpponents ? rc.senseNearbyRobots(location62, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight62 = canVisit62 ? (rc.senseMapInfo(location62).isWater() ? 6 : 1) + (checkOpponents ? DangerField.get(location62) : 0) : 1_000_000;
 
         MapLocation location63 = location37.add(Direction.SOUTHEAST);
         boolean canVisit63 = rc.canSenseLocation(location63) && (rc.sensePassability(location63) || (!hasFlag && rc.senseMapInfo(location63).isWater()));
         int distance63 = 1_000_000;
         Direction direction63 = null;
-        int weight63 = canVisit63 ? (rc.senseMapInfo(location63).isWater() ? 6 : 1) + (checkOpponents ? rc.senseNearbyRobots(location63, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight63 = canVisit63 ? (rc.senseMapInfo(location63).isWater() ? 6 : 1) + (checkOpponents ? DangerField.get(location63) : 0) : 1_000_000;
 
         MapLocation location67 = location41.add(Direction.NORTHWEST);
         boolean canVisit67 = rc.canSenseLocation(location67) && (rc.sensePassability(location67) || (!hasFlag && rc.senseMapInfo(location67).isWater()));
         int distance67 = 1_000_000;
         Direction direction67 = null;
-        int weight67 = canVisit67 ? (rc.senseMapInfo(location67).isWater() ? 6 : 1) + (checkOpponents ? rc.senseNearbyRobots(location67, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight67 = canVisit67 ? (rc.senseMapInfo(location67).isWater() ? 6 : 1) + (checkOpponents ? DangerField.get(location67) : 0) : 1_000_000;
 
         MapLocation location68 = location42.add(Direction.NORTHEAST);
         boolean canVisit68 = rc.canSenseLocation(location68) && (rc.sensePassability(location68) || (!hasFlag && rc.senseMapInfo(location68).isWater()));
         int distance68 = 1_000_000;
         Direction direction68 = null;
-        int weight68 = canVisit68 ? (rc.senseMapInfo(location68).isWater() ? 6 : 1) + (checkOpponents ? rc.senseNearbyRobots(location68, 10, opponentTeam).length : 0) : 1_000_000;
+        int weight68 = canVisit68 ? (rc.senseMapInfo(location68).isWater() ? 6 : 1) + (checkOpponents ? DangerField.get(location68) : 0) : 1_000_000;
 
         if (canVisit1) {
             distance1 = weight1;
@@ -0,0 +1,350 @@
+package camel_case;
+
+import battlecode.common.Clock;
+import battlecode.common.Direction;
+import battlecode.common.GameActionException;
+import battlecode.common.MapLocation;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+
+// Called by scripts/benchmark.py from RobotPlayer in a temporary copy of this package, excluded from submissions
+public class Benchmark extends Globals {
+    private static final int MIN_BYTECODES_LEFT = 5000;
+
+    private static int overhead;
+
+    private static int startBytecodes;
+    private static int calls;
+    private static int totalBytecodes;
+    private static int minBytecodes;
+    private static int maxBytecodes;
+
+    public static void run() {
+        try {
+            if (rc.readSharedArray(0) != 0) {
+                while (true) {
+                    Clock.yield();
+                }
+            }
+
+            rc.writeSharedArray(0, 1);
+
+            measureOverhead();
+
+            benchmarkFastSet(10);
+            benchmarkFastSet(100);
+            benchmarkFastSet(500);
+
+            benchmarkFastBitSet(10);
+            benchmarkFastBitSet(100);
+            benchmarkFastBitSet(500);
+
+            benchmarkQueues(50);
+
+            benchmarkMaps(50);
+
+            benchmarkBellmanFordNavigator();
+
+            System.out.println("Benchmark done");
+        } catch (Exception e) {
+            System.out.println("Exception: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        rc.resign();
+    }
+
+    private static void measureOverhead() {
+        overhead = 0;
+
+        for (int i = 10; --i >= 0; ) {
+            begin();
+            end();
+        }
+
+        overhead = minBytecodes;
+
+        calls = 0;
+        totalBytecodes = 0;
+    }
+
+    private static void benchmarkFastSet(int size) {
+        FastSet set = new FastSet();
+        for (int i = 0; i < size; i++) {
+            prepare();
+            set.add((char) i);
+        }
+
+        for (int i = 0; i < 20; i++) {
+            char value = (char) (i * size / 20);
+            begin();
+            set.contains(value);
+            end();
+        }
+
+        report("FastSet.contains hit (size " + size + ")");
+
+        for (int i = 0; i < 20; i++) {
+            char value = (char) (size + i);
+            begin();
+            set.contains(value);
+            end();
+        }
+
+        report("FastSet.contains miss (size " + size + ")");
+
+        for (int i = 0; i < 20; i++) {
+            char value = (char) (size + i);
+            begin();
+            set.add(value);
+            end();
+        }
+
+        report("FastSet.add new (size " + size + ")");
+    }
+
+    private static void benchmarkFastBitSet(int size) {
+        FastBitSet set = new FastBitSet(1 << 16);
+        for (int i = 0; i < size; i++) {
+            prepare();
+            set.add(i);
+        }
+
+        for (int i = 0; i < 20; i++) {
+            int value = i * size / 20;
+            begin();
+            set.contains(value);
+            end();
+        }
+
+        report("FastBitSet.contains hit (size " + size + ")");
+
+        for (int i = 0; i < 20; i++) {
+            int value = size + i;
+            begin();
+            set.contains(value);
+            end();
+        }
+
+        report("FastBitSet.contains miss (size " + size + ")");
+
+        for (int i = 0; i < 20; i++) {
+            int value = size + i;
+            begin();
+            set.add(value);
+            end();
+        }
+
+        report("FastBitSet.add new (size " + size + ")");
+
+        for (int i = 0; i < 20; i++) {
+            begin();
+            set.clear();
+            end();
+        }
+
+        report("FastBitSet.clear");
+    }
+
+    private static void benchmarkQueues(int size) {
+        FastIntQueue queue = new FastIntQueue(size * 8);
+        for (int i = 0; i < 10; i++) {
+            queue.clear();
+            begin();
+            for (int j = size; --j >= 0; ) {
+                queue.add(j);
+            }
+
+            while (!queue.isEmpty()) {
+                queue.poll();
+            }
+            end();
+        }
+
+        report("FastIntQueue " + size + " add + poll");
+
+        FastIntDeque deque = new FastIntDeque(size);
+        for (int i = 0; i < 10; i++) {
+            begin();
+            for (int j = size; --j >= 0; ) {
+                deque.addLast(j);
+            }
+
+            while (!deque.isEmpty()) {
+                deque.pollFirst();
+            }
+            end();
+        }
+
+        report("FastIntDeque " + size + " addLast + pollFirst");
+
+        FastIntStack stack = new FastIntStack(size * 8);
+        for (int i = 0; i < 10; i++) {
+            begin();
+            for (int j = size; --j >= 0; ) {
+                stack.push(j);
+            }
+
+            while (!stack.isEmpty()) {
+                stack.pop();
+            }
+            end();
+        }
+
+        report("FastIntStack " + size + " push + pop");
+
+        ArrayDeque<Integer> arrayDeque = new ArrayDeque<>(size);
+        for (int i = 0; i < 10; i++) {
+            begin();
+            for (int j = size; --j >= 0; ) {
+                arrayDeque.addLast(j);
+            }
+
+            while (!arrayDeque.isEmpty()) {
+                arrayDeque.pollFirst();
+            }
+            end();
+        }
+
+        report("ArrayDeque<Integer> " + size + " addLast + pollFirst");
+
+        int location = (mapWidth / 2 << 6) | (mapHeight / 2);
+        for (int i = 0; i < 10; i++) {
+            queue.clear();
+            begin();
+            queue.addNeighbors(location);
+            end();
+        }
+
+        report("FastIntQueue.addNeighbors");
+
+        for (int i = 0; i < 10; i++) {
+            arrayDeque.clear();
+            begin();
+            for (int j = adjacentDirections.length; --j >= 0; ) {
+                Direction direction = adjacentDirections[j];
+                arrayDeque.addLast(location + (direction.getDeltaX() << 6) + direction.getDeltaY());
+            }
+            end();
+        }
+
+        report("ArrayDeque<Integer> 8 neighbors");
+    }
+
+    private static void benchmarkMaps(int size) {
+        FastIntMap map = new FastIntMap(FastIntMap.ROBOT_CAPACITY);
+        HashMap<Integer, Integer> hashMap = new HashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            prepare();
+            map.put(10000 + i * 3, i);
+            hashMap.put(10000 + i * 3, i);
+        }
+
+        for (int i = 0; i < 20; i++) {
+            int key = 10000 + i * 3;
+            begin();
+            map.get(key, -1);
+            end();
+        }
+
+        report("FastIntMap.get (size " + size + ")");
+
+        for (int i = 0; i < 20; i++) {
+            int key = 10000 + i * 3;
+            begin();
+            hashMap.get(key);
+            end();
+        }
+
+        report("HashMap<Integer, Integer>.get (size " + size + ")");
+
+        for (int i = 0; i < 20; i++) {
+            int key = 10000 + i * 3;
+            begin();
+            map.put(key, i);
+            end();
+        }
+
+        report("FastIntMap.put existing (size " + size + ")");
+
+        for (int i = 0; i < 20; i++) {
+            int key = 10000 + i * 3;
+            begin();
+            hashMap.put(key, i);
+            end();
+        }
+
+        report("HashMap<Integer, Integer>.put existing (size " + size + ")");
+
+        for (int i = 0; i < 20; i++) {
+            begin();
+            map.clear();
+            end();
+        }
+
+        report("FastIntMap.clear");
+    }
+
+    private static void benchmarkBellmanFordNavigator() throws GameActionException {
+        MapLocation[] spawnLocations = rc.getAllySpawnLocations();
+        for (int i = spawnLocations.length; --i >= 0; ) {
+            if (rc.canSpawn(spawnLocations[i])) {
+                rc.spawn(spawnLocations[i]);
+                break;
+            }
+        }
+
+        if (!rc.isSpawned()) {
+            System.out.println("Benchmark skipped BellmanFordNavigator.getBestDirection: could not spawn");
+            return;
+        }
+
+        MapLocation target = new MapLocation(mapWidth / 2, mapHeight / 2);
+        for (int i = 0; i < 10; i++) {
+            Clock.yield();
+            begin();
+            BellmanFordNavigator.getBestDirection(target);
+            end();
+        }
+
+        report("BellmanFordNavigator.getBestDirection");
+    }
+
+    private static void prepare() {
+        if (Clock.getBytecodesLeft() < MIN_BYTECODES_LEFT) {
+            Clock.yield();
+        }
+    }
+
+    private static void begin() {
+        prepare();
+        startBytecodes = Clock.getBytecodeNum();
+    }
+
+    private static void end() {
+        int usedBytecodes = Clock.getBytecodeNum() - startBytecodes - overhead;
+
+        if (calls == 0 || usedBytecodes < minBytecodes) {
+            minBytecodes = usedBytecodes;
+        }
+
+        if (calls == 0 || usedBytecodes > maxBytecodes) {
+            maxBytecodes = usedBytecodes;
+        }
+
+        calls++;
+        totalBytecodes += usedBytecodes;
+    }
+
+    private static void report(String name) {
+        System.out.println("Benchmark " + name + ": min " + minBytecodes
+            + ", avg " + (totalBytecodes / calls)
+            + ", max " + maxBytecodes
+            + ", " + calls + " calls");
+
+        calls = 0;
+        totalBytecodes = 0;
+    }
+}
@@ -0,0 +1,141 @@
+package camel_case;
+
+import battlecode.common.GameConstants;
+import battlecode.common.MapInfo;
+import battlecode.common.MapLocation;
+
+// One long per map row, bit x of row y is the tile at (x, y)
+public class BitboardMap extends Globals {
+    public static long[] known = new long[GameConstants.MAP_MAX_HEIGHT];
+    public static long[] walls = new long[GameConstants.MAP_MAX_HEIGHT];
+    public static long[] water = new long[GameConstants.MAP_MAX_HEIGHT];
+    public static long[] dams = new long[GameConstants.MAP_MAX_HEIGHT];
+    public static long[] allySpawnZones = new long[GameConstants.MAP_MAX_HEIGHT];
+    public static long[] opponentSpawnZones = new long[GameConstants.MAP_MAX_HEIGHT];
+    public static long[] crumbs = new long[GameConstants.MAP_MAX_HEIGHT];
+
+    public static long fullRow;
+
+    public static void init() {
+        fullRow = (1L << mapWidth) - 1;
+
+        MapLocation[] spawnLocations = rc.getAllySpawnLocations();
+        for (int i = spawnLocations.length; --i >= 0; ) {
+            MapLocation location = spawnLocations[i];
+            allySpawnZones[location.y] |= 1L << location.x;
+        }
+    }
+
+    public static void record(MapInfo info) {
+        MapLocation location = info.getMapLocation();
+        int y = location.y;
+        long bit = 1L << location.x;
+
+        known[y] |= bit;
+
+        // Every layer is rewritten from the sensed tile, so mirrored or shared guesses get corrected
+        if (info.isWall()) {
+            walls[y] |= bit;
+            water[y] &= ~bit;
+            dams[y] &= ~bit;
+            crumbs[y] &= ~bit;
+            return;
+        }
+
+        walls[y] &= ~bit;
+
+        if (info.isWater()) {
+            water[y] |= bit;
+        } else {
+            water[y] &= ~bit;
+        }
+
+        if (info.isDam()) {
+            dams[y] |= bit;
+        } else {
+            dams[y] &= ~bit;
+        }
+
+        if (info.isSpawnZone() && info.getSpawnZoneTeamObject() != myTeam) {
+            opponentSpawnZones[y] |= bit;
+        }
+
+        if (info.getCrumbs() > 0) {
+            crumbs[y] |= bit;
+        } else {
+            crumbs[y] &= ~bit;
+        }
+    }
+
+    public static boolean get(long[] board, int x, int y) {
+        return (board[y] & (1L << x)) != 0;
+    }
+
+    public static void set(long[] board, int x, int y) {
+        board[y] |= 1L << x;
+    }
+
+    public static void clear(long[] board, int x, int y) {
+        board[y] &= ~(1L << x);
+    }
+
+    public static void clear(long[] board) {
+        for (int y = mapHeight; --y >= 0; ) {
+            board[y] = 0;
+        }
+    }
+
+    public static void copy(long[] board, long[] result) {
+        System.arraycopy(board, 0, result, 0, mapHeight);
+    }
+
+    public static void and(long[] a, long[] b, long[] result) {
+        for (int y = mapHeight; --y >= 0; ) {
+            result[y] = a[y] & b[y];
+        }
+    }
+
+    public static void or(long[] a, long[] b, long[] result) {
+        for (int y = mapHeight; --y >= 0; ) {
+            result[y] = a[y] | b[y];
+        }
+    }
+
+    public static void andNot(long[] a, long[] b, long[] result) {
+        for (int y = mapHeight; --y >= 0; ) {
+            result[y] = a[y] & ~b[y];
+        }
+    }
+
+    public static void not(long[] a, long[] result) {
+        for (int y = mapHeight; --y >= 0; ) {
+            result[y] = ~a[y] & fullRow;
+        }
+    }
+
+    public static int count(long[] board) {
+        int count = 0;
+        for (int y = mapHeight; --y >= 0; ) {
+            count += Long.bitCount(board[y]);
+        }
+
+        return count;
+    }
+
+    public static boolean isEmpty(long[] board) {
+        for (int y = mapHeight; --y >= 0; ) {
+            if (board[y] != 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // Known tiles that are not walls or dams, water counts as passable because it can be filled
+    public static void getPassable(long[] result) {
+        for (int y = mapHeight; --y >= 0; ) {
+            result[y] = known[y] & ~walls[y] & ~dams[y];
+        }
+    }
+}
@@ -10,7 +10,7 @@ public class BugNavigator extends Globals {
     private static int minDistanceToTarget;
     private static boolean obstacleOnRight;
     private static MapLocation currentObstacle;
-    private static FastSet visitedStates;
+    private static FastBitSet visitedStates = new FastBitSet(1 << 16);
 
     public static void moveTo(MapLocation target) throws GameActionException {
         if (currentTarget == null || !currentTarget.equals(target)) {
@@ -65,31 +65,31 @@ public class BugNavigator extends Globals {
         minDistanceToTarget = Integer.MAX_VALUE;
         obstacleOnRight = true;
         currentObstacle = null;
-        visitedStates = new FastSet();
+        visitedStates.clear();
     }
 
     private static void setInitialDirection() throws GameActionException {
         MapLocation myLocation = rc.getLocation();
         Direction forward = myLocation.directionTo(currentTarget);
 
-        Direction left = forward.rotateLeft();
+        Direction left = allDirections[Tables.ROTATE_LEFT.charAt(forward.ordinal())];
         for (int i = 8; --i >= 0; ) {
             MapLocation location = rc.adjacentLocation(left);
             if (rc.onTheMap(location) && rc.sensePassability(location)) {
                 break;
             }
 
-            left = left.rotateLeft();
+            left = allDirections[Tables.ROTATE_LEFT.charAt(left.ordinal())];
         }
 
-        Direction right = forward.rotateRight();
+        Direction right = allDirections[Tables.ROTATE_RIGHT.charAt(forward.ordinal())];
         for (int i = 8; --i >= 0; ) {
             MapLocation location = rc.adjacentLocation(right);
             if (rc.onTheMap(location) && rc.sensePassability(location)) {
                 break;
             }
 
-            right = right.rotateRight();
+            right = allDirections[Tables.ROTATE_RIGHT.charAt(right.ordinal())];
         }
 
         MapLocation leftLocation = rc.adjacentLocation(left);
@@ -107,9 +107,9 @@ public class BugNavigator extends Globals {
         }
 
         if (obstacleOnRight) {
-            currentObstacle = rc.adjacentLocation(left.rotateRight());
+            currentObstacle = rc.adjacentLocation(allDirections[Tables.ROTATE_RIGHT.charAt(left.ordinal())]);
         } else {
-            currentObstacle = rc.adjacentLocation(right.rotateLeft());
+            currentObstacle = rc.adjacentLocation(allDirections[Tables.ROTATE_LEFT.charAt(right.ordinal())]);
         }
     }
 
@@ -117,7 +117,7 @@ public class BugNavigator extends Globals {
         Direction direction = rc.getLocation().directionTo(currentObstacle);
 
         for (int i = 8; --i >= 0; ) {
-            direction = obstacleOnRight ? direction.rotateLeft() : direction.rotateRight();
+            direction = allDirections[(obstacleOnRight ? Tables.ROTATE_LEFT : Tables.ROTATE_RIGHT).charAt(direction.ordinal())];
             if (canMoveWithFill(direction)) {
                 moveWithFill(direction);
                 return;
@@ -136,12 +136,15 @@ public class BugNavigator extends Globals {
         }
     }
 
-    private static char getState(MapLocation target) {
-        MapLocation myLocation = rc.getLocation();
-        Direction direction = myLocation.directionTo(currentObstacle != null ? currentObstacle : target);
+    private static int getState(MapLocation target) {
+        MapLocation location = rc.getLocation();
+        int myLocation = PackedLocation.pack(location);
+
+        // The obstacle is off the map when following the map edge, which the packed form cannot represent
+        Direction direction = location.directionTo(currentObstacle != null ? currentObstacle : target);
         int rotation = obstacleOnRight ? 1 : 0;
 
-        return (char) ((((myLocation.x << 6) | myLocation.y) << 4) | (direction.ordinal() << 1) | rotation);
+        return (myLocation << 4) | (direction.ordinal() << 1) | rotation;
     }
 
     private static int distance1d(MapLocation a, MapLocation b) {
@@ -162,6 +165,8 @@ public class BugNavigator extends Globals {
             rc.move(direction);
         }
 
-        Logger.log("bug " + direction);
+        if (Logger.ENABLED) {
+            Logger.log("bug " + direction);
+        }
     }
 }
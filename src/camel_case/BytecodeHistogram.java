@@ -0,0 +1,58 @@
+package camel_case;
+
+import battlecode.common.GameConstants;
+
+public class BytecodeHistogram {
+    private static final int BUCKET_SIZE = 250;
+    private static final int BUCKET_COUNT = 4 * GameConstants.BYTECODE_LIMIT / BUCKET_SIZE;
+
+    private static int[] buckets = new int[BUCKET_COUNT];
+
+    private static int turns = 0;
+    private static int overflows = 0;
+    private static int maxBytecodes = 0;
+
+    public static void record(int usedBytecodes, boolean overflow) {
+        int bucket = usedBytecodes / BUCKET_SIZE;
+        if (bucket >= BUCKET_COUNT) {
+            bucket = BUCKET_COUNT - 1;
+        }
+
+        buckets[bucket]++;
+        turns++;
+
+        if (overflow) {
+            overflows++;
+        }
+
+        if (usedBytecodes > maxBytecodes) {
+            maxBytecodes = usedBytecodes;
+        }
+    }
+
+    public static int getPercentile(int percentile) {
+        if (turns == 0) {
+            return 0;
+        }
+
+        int target = Math.max(1, (turns * percentile + 99) / 100);
+        int seen = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets[i];
+            if (seen >= target) {
+                return Math.min((i + 1) * BUCKET_SIZE, maxBytecodes);
+            }
+        }
+
+        return maxBytecodes;
+    }
+
+    public static void printSummary() {
+        System.out.println("Bytecode usage: p50 " + getPercentile(50)
+            + ", p90 " + getPercentile(90)
+            + ", p99 " + getPercentile(99)
+            + ", max " + maxBytecodes
+            + ", " + turns + " turns, " + overflows + " overflows");
+    }
+}
@@ -0,0 +1,32 @@
+package camel_case;
+
+import battlecode.common.GameConstants;
+
+public class CheapMode {
+    private static final int TURNS_AFTER_OVERFLOW = 10;
+    private static final int HIGH_BYTECODES = GameConstants.BYTECODE_LIMIT * 95 / 100;
+
+    private static int turnsLeft = 0;
+
+    public static boolean isActive() {
+        return turnsLeft > 0;
+    }
+
+    public static void update(int usedBytecodes, boolean overflow) {
+        if (overflow) {
+            turnsLeft = TURNS_AFTER_OVERFLOW;
+            return;
+        }
+
+        if (turnsLeft == 0) {
+            return;
+        }
+
+        // Low usage is expected while cheap mode skips the expensive work, so it always runs for the full countdown
+        if (usedBytecodes > HIGH_BYTECODES) {
+            turnsLeft = TURNS_AFTER_OVERFLOW;
+        } else {
+            turnsLeft--;
+        }
+    }
+}
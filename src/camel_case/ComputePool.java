@@ -0,0 +1,78 @@
+package camel_case;
+
+import battlecode.common.GameActionException;
+
+public class ComputePool extends Globals {
+    private static final int DONE = 1 << 15;
+
+    private static BackgroundJob[] workItems = new BackgroundJob[SharedArray.WORK_ITEM_COUNT];
+    private static int[] refreshRounds = new int[SharedArray.WORK_ITEM_COUNT];
+    private static int claimedItem = -1;
+
+    // Done items can be claimed again after refreshRounds rounds, or never if it is 0
+    public static void register(int item, BackgroundJob job, int refreshRounds) {
+        workItems[item] = job;
+        ComputePool.refreshRounds[item] = refreshRounds;
+    }
+
+    public static boolean isDone(int item) throws GameActionException {
+        return (SharedArray.readWorkItem(item) & DONE) != 0;
+    }
+
+    // Keeps the claim alive while the job is queued, also after spawning, and marks the item done once it has left the queue
+    public static void update() throws GameActionException {
+        if (claimedItem == -1) {
+            return;
+        }
+
+        int round = rc.getRoundNum();
+        if (BackgroundJobs.isQueued(workItems[claimedItem])) {
+            SharedArray.writeWorkItem(claimedItem, round);
+        } else {
+            SharedArray.writeWorkItem(claimedItem, DONE | round);
+            claimedItem = -1;
+        }
+    }
+
+    public static void work() throws GameActionException {
+        update();
+
+        if (claimedItem != -1) {
+            return;
+        }
+
+        int round = rc.getRoundNum();
+        int item = claim(round);
+        if (item == -1 || !BackgroundJobs.add(workItems[item])) {
+            return;
+        }
+
+        claimedItem = item;
+        SharedArray.writeWorkItem(claimedItem, round);
+
+        if (Logger.ENABLED) {
+            Logger.log("work " + claimedItem);
+        }
+    }
+
+    private static int claim(int round) throws GameActionException {
+        for (int i = 0; i < workItems.length; i++) {
+            if (workItems[i] == null) {
+                continue;
+            }
+
+            int value = SharedArray.readWorkItem(i);
+            if ((value & DONE) != 0) {
+                if (refreshRounds[i] == 0 || round - (value & ~DONE) < refreshRounds[i]) {
+                    continue;
+                }
+            } else if (value != 0 && round - value <= 1) {
+                continue;
+            }
+
+            return i;
+        }
+
+        return -1;
+    }
+}
@@ -0,0 +1,79 @@
+package camel_case;
+
+import battlecode.common.GameActionException;
+import battlecode.common.MapLocation;
+import battlecode.common.RobotInfo;
+
+// Number of opponents without a flag within distance squared 10 of every tile near the robot
+public class DangerField extends Globals {
+    private static final int WINDOW_RADIUS = Tables.DANGER_WINDOW_RADIUS;
+    private static final int WINDOW_SIZE = Tables.DANGER_WINDOW_SIZE;
+
+    private static int[] danger = new int[WINDOW_SIZE * WINDOW_SIZE];
+
+    private static int centerX;
+    private static int centerY;
+
+    private static RobotInfo[] opponents = new RobotInfo[0];
+
+    // Window indices of the stamped opponents, used to clear the window on the next update
+    private static int[] stampedCenters = new int[WINDOW_SIZE * WINDOW_SIZE];
+    private static int stampedCount = 0;
+
+    public static void update() throws GameActionException {
+        for (int i = stampedCount; --i >= 0; ) {
+            stamp(stampedCenters[i], -1);
+        }
+
+        stampedCount = 0;
+
+        MapLocation myLocation = rc.getLocation();
+        centerX = myLocation.x;
+        centerY = myLocation.y;
+
+        opponents = rc.senseNearbyRobots(-1, opponentTeam);
+        for (int i = opponents.length; --i >= 0; ) {
+            RobotInfo robot = opponents[i];
+            if (robot.hasFlag) {
+                continue;
+            }
+
+            int center = (robot.location.x - centerX + WINDOW_RADIUS) * WINDOW_SIZE + robot.location.y - centerY + WINDOW_RADIUS;
+            stamp(center, 1);
+
+            stampedCenters[stampedCount] = center;
+            stampedCount++;
+        }
+    }
+
+    public static RobotInfo[] getOpponents() {
+        return opponents;
+    }
+
+    public static boolean hasOpponents() {
+        return opponents.length > 0;
+    }
+
+    public static int get(MapLocation location) {
+        return get(location.x, location.y);
+    }
+
+    // Tiles outside the window are further than distance squared 10 from every visible opponent
+    public static int get(int x, int y) {
+        int dx = x - centerX + WINDOW_RADIUS;
+        int dy = y - centerY + WINDOW_RADIUS;
+
+        if (dx < 0 || dx >= WINDOW_SIZE || dy < 0 || dy >= WINDOW_SIZE) {
+            return 0;
+        }
+
+        return danger[dx * WINDOW_SIZE + dy];
+    }
+
+    private static void stamp(int center, int value) {
+        int base = center - Tables.DANGER_STAMP_OFFSET;
+        for (int i = Tables.DANGER_STAMP.length(); --i >= 0; ) {
+            danger[base + Tables.DANGER_STAMP.charAt(i)] += value;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package camel_case;
+
+import battlecode.common.Clock;
+import battlecode.common.GameConstants;
+
+// Bit-parallel 8-connected BFS over BitboardMap rows, unknown tiles count as passable
+public class DistanceField extends Globals implements BackgroundJob {
+    private static final int MAX_LAYERS = 256;
+    private static final int LAYER_BYTECODES = 2500;
+
+    private long[] passable = new long[GameConstants.MAP_MAX_HEIGHT];
+
+    // Layer i contains every tile within distance i of the targets
+    private long[][] layers = new long[MAX_LAYERS][];
+    private int layerCount = 0;
+
+    // Layers of the last completed computation, queries keep using them while the next one is running
+    private long[][] completeLayers = new long[MAX_LAYERS][];
+    private int completeLayerCount = 0;
+
+    private boolean isComplete = false;
+    private int startRound = -1;
+
+    public void reset(long[] targets) {
+        reset(targets, false);
+    }
+
+    // Flag carriers cannot fill water, so their fields treat known water like walls
+    public void reset(long[] targets, boolean isWaterBlocked) {
+        if (layers[0] == null) {
+            layers[0] = new long[GameConstants.MAP_MAX_HEIGHT];
+        }
+
+        BitboardMap.copy(targets, layers[0]);
+        layerCount = 1;
+
+        boolean damsExist = rc.getRoundNum() < GameConstants.SETUP_ROUNDS;
+        for (int y = mapHeight; --y >= 0; ) {
+            long blocked = BitboardMap.walls[y];
+            if (damsExist) {
+                blocked |= BitboardMap.dams[y];
+            }
+
+            if (isWaterBlocked) {
+                blocked |= BitboardMap.water[y];
+            }
+
+            passable[y] = ~blocked & BitboardMap.fullRow;
+        }
+
+        isComplete = false;
+        startRound = rc.getRoundNum();
+    }
+
+    public boolean run() {
+        while (!isComplete && Clock.getBytecodesLeft() > LAYER_BYTECODES && BackgroundJobs.hasBytecodesLeft()) {
+            expand();
+        }
+
+        return isComplete;
+    }
+
+    public boolean isComplete() {
+        return isComplete;
+    }
+
+    public int getStartRound() {
+        return startRound;
+    }
+
+    // Returns -1 if the tile has not been reached (yet), before the first completion the partial layers are used
+    public int getDistance(int x, int y) {
+        long[][] layers = this.layers;
+        int layerCount = this.layerCount;
+
+        if (completeLayerCount > 0) {
+            layers = completeLayers;
+            layerCount = completeLayerCount;
+        }
+
+        long bit = 1L << x;
+        if (layerCount == 0 || (layers[layerCount - 1][y] & bit) == 0) {
+            return -1;
+        }
+
+        int low = 0;
+        int high = layerCount - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if ((layers[middle][y] & bit) != 0) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+
+        return low;
+    }
+
+    private void complete() {
+        long[][] previousLayers = completeLayers;
+        completeLayers = layers;
+        completeLayerCount = layerCount;
+        layers = previousLayers;
+
+        isComplete = true;
+    }
+
+    private void expand() {
+        if (layerCount == MAX_LAYERS) {
+            complete();
+            return;
+        }
+
+        long[] previous = layers[layerCount - 1];
+        long[] next = layers[layerCount];
+        if (next == null) {
+            next = new long[GameConstants.MAP_MAX_HEIGHT];
+            layers[layerCount] = next;
+        }
+
+        boolean changed = false;
+
+        long below = 0;
+        long current = previous[0];
+        int lastRow = mapHeight - 1;
+
+        for (int y = 0; y <= lastRow; y++) {
+            long above = y < lastRow ? previous[y + 1] : 0;
+            long rows = below | current | above;
+            long value = current | ((rows | (rows << 1) | (rows >>> 1)) & passable[y]);
+
+            next[y] = value;
+            if (value != current) {
+                changed = true;
+            }
+
+            below = current;
+            current = above;
+        }
+
+        if (changed) {
+            layerCount++;
+        } else {
+            complete();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package camel_case;
+
+import battlecode.common.FlagInfo;
+import battlecode.common.GameActionException;
+import battlecode.common.GameConstants;
+import battlecode.common.MapLocation;
+
+// Our flag spawns mirrored under every symmetry, pruned team-wide as symmetries get eliminated or robots see them empty
+public class EnemyFlagSpawns extends Globals {
+    public static final int CANDIDATE_COUNT = 9;
+
+    private static final int[] SYMMETRIES = {Symmetry.ROTATIONAL, Symmetry.HORIZONTAL, Symmetry.VERTICAL};
+
+    // An opponent flag within this distance squared of a candidate keeps it alive, which covers the 5x5 square around it
+    private static final int FLAG_RADIUS_SQUARED = 8;
+    private static final int FLAG_RADIUS = 2;
+
+    private static int[] candidates;
+    private static int prunedMask = 0;
+
+    public static void update() throws GameActionException {
+        initCandidates();
+
+        int sharedMask = SharedArray.getPrunedFlagSpawns();
+        int newMask = prunedMask | sharedMask;
+
+        // Flags can be moved during setup, and a carried flag is missing from its spawn without the spawn being wrong
+        boolean canPruneSightings = rc.getRoundNum() >= GameConstants.SETUP_ROUNDS && !SharedArray.isOpponentFlagCarried();
+
+        int myLocation = PackedLocation.pack(rc.getLocation());
+        FlagInfo[] flags = null;
+
+        for (int i = CANDIDATE_COUNT; --i >= 0; ) {
+            if ((newMask & (1 << i)) != 0) {
+                continue;
+            }
+
+            if (!Symmetry.isCandidate(SYMMETRIES[i / 3])) {
+                newMask |= 1 << i;
+                continue;
+            }
+
+            if (!canPruneSightings) {
+                continue;
+            }
+
+            int candidate = candidates[i];
+            if (!isFlagAreaVisible(myLocation, candidate)) {
+                continue;
+            }
+
+            if (flags == null) {
+                flags = rc.senseNearbyFlags(-1, opponentTeam);
+            }
+
+            if (!hasFlagNear(flags, candidate)) {
+                newMask |= 1 << i;
+            }
+        }
+
+        prunedMask = newMask;
+
+        if (newMask != sharedMask) {
+            SharedArray.setPrunedFlagSpawns(newMask);
+        }
+    }
+
+    // Publishes the surviving candidate with the shortest walking distance in a field computed from our spawn zones
+    public static void publishTarget(DistanceField field) throws GameActionException {
+        initCandidates();
+
+        int mask = prunedMask | SharedArray.getPrunedFlagSpawns();
+
+        int bestCandidate = -1;
+        int minDistance = Integer.MAX_VALUE;
+
+        for (int i = CANDIDATE_COUNT; --i >= 0; ) {
+            if ((mask & (1 << i)) != 0 || !Symmetry.isCandidate(SYMMETRIES[i / 3])) {
+                continue;
+            }
+
+            int distance = field.getDistance(candidates[i] >> 6, candidates[i] & 63);
+            if (distance >= 0 && distance < minDistance) {
+                bestCandidate = i;
+                minDistance = distance;
+            }
+        }
+
+        if (bestCandidate != -1) {
+            SharedArray.setTargetFlagSpawn(bestCandidate);
+        }
+    }
+
+    // The published target while it survives, so attackers converge on one flag spawn, otherwise the nearest candidate
+    public static int getTarget(MapLocation location) throws GameActionException {
+        int target = SharedArray.getTargetFlagSpawn();
+        if (target != -1 && candidates != null && ((prunedMask | SharedArray.getPrunedFlagSpawns()) & (1 << target)) == 0) {
+            return candidates[target];
+        }
+
+        return getNearest(location);
+    }
+
+    // Returns -1 if all candidates have been pruned
+    public static int getNearest(MapLocation location) {
+        if (candidates == null) {
+            return -1;
+        }
+
+        int packedLocation = PackedLocation.pack(location);
+
+        int bestCandidate = -1;
+        int minDistance = Integer.MAX_VALUE;
+
+        for (int i = CANDIDATE_COUNT; --i >= 0; ) {
+            if ((prunedMask & (1 << i)) != 0) {
+                continue;
+            }
+
+            int distance = PackedLocation.distanceSquared(packedLocation, candidates[i]);
+            if (distance < minDistance) {
+                bestCandidate = candidates[i];
+                minDistance = distance;
+            }
+        }
+
+        return bestCandidate;
+    }
+
+    private static void initCandidates() {
+        if (candidates != null) {
+            return;
+        }
+
+        candidates = new int[CANDIDATE_COUNT];
+        for (int i = CANDIDATE_COUNT; --i >= 0; ) {
+            candidates[i] = Symmetry.mirror(SharedArray.getFlagSpawn(i % 3), SYMMETRIES[i / 3]);
+        }
+    }
+
+    // True if every on-map tile a flag near the candidate could be on is within vision, otherwise a missing flag proves nothing
+    private static boolean isFlagAreaVisible(int myLocation, int candidate) {
+        int myX = myLocation >> 6;
+        int myY = myLocation & 63;
+        int candidateX = candidate >> 6;
+        int candidateY = candidate & 63;
+
+        int dx = Math.max(Math.abs(Math.max(candidateX - FLAG_RADIUS, 0) - myX), Math.abs(Math.min(candidateX + FLAG_RADIUS, mapWidth - 1) - myX));
+        int dy = Math.max(Math.abs(Math.max(candidateY - FLAG_RADIUS, 0) - myY), Math.abs(Math.min(candidateY + FLAG_RADIUS, mapHeight - 1) - myY));
+
+        return dx * dx + dy * dy <= GameConstants.VISION_RADIUS_SQUARED;
+    }
+
+    private static boolean hasFlagNear(FlagInfo[] flags, int candidate) {
+        for (int i = flags.length; --i >= 0; ) {
+            FlagInfo flag = flags[i];
+            if (!flag.isPickedUp() && PackedLocation.distanceSquared(PackedLocation.pack(flag.getLocation()), candidate) <= FLAG_RADIUS_SQUARED) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
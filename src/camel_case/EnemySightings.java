@@ -0,0 +1,91 @@
+package camel_case;
+
+import battlecode.common.GameActionException;
+import battlecode.common.RobotInfo;
+
+// Ring buffer of this robot's opponent sightings, one centroid per round in which opponents were seen
+public class EnemySightings extends Globals {
+    private static final int CAPACITY = 32;
+
+    // Sightings older than this do not count towards the threat anymore
+    public static final int DECAY_ROUNDS = 20;
+
+    private static int[] locations = new int[CAPACITY];
+    private static int[] rounds = new int[CAPACITY];
+    private static int[] counts = new int[CAPACITY];
+
+    private static int head = 0;
+    private static int size = 0;
+
+    // Sightings this close to one of our flag spawns are shared with the robots waiting to spawn
+    private static final int SPAWN_THREAT_RADIUS_SQUARED = 36;
+
+    public static void record(RobotInfo[] opponents) throws GameActionException {
+        int count = 0;
+        int sumX = 0;
+        int sumY = 0;
+
+        for (int i = opponents.length; --i >= 0; ) {
+            RobotInfo robot = opponents[i];
+            if (robot.hasFlag) {
+                continue;
+            }
+
+            count++;
+            sumX += robot.location.x;
+            sumY += robot.location.y;
+        }
+
+        if (count == 0) {
+            return;
+        }
+
+        int location = PackedLocation.pack(sumX / count, sumY / count);
+        int round = rc.getRoundNum();
+
+        locations[head] = location;
+        rounds[head] = round;
+        counts[head] = count;
+
+        head = (head + 1) % CAPACITY;
+        if (size < CAPACITY) {
+            size++;
+        }
+
+        for (int i = SharedArray.FLAG_SPAWN_COUNT; --i >= 0; ) {
+            if (PackedLocation.distanceSquared(location, SharedArray.getFlagSpawn(i)) <= SPAWN_THREAT_RADIUS_SQUARED) {
+                SharedArray.writeSpawnThreat(i, round, count);
+            }
+        }
+    }
+
+    public static boolean hasRecent() {
+        return size > 0 && rc.getRoundNum() - rounds[(head + CAPACITY - 1) % CAPACITY] < DECAY_ROUNDS;
+    }
+
+    // Sum of the opponent counts near the location, each weighted by DECAY_ROUNDS minus its age
+    public static int getThreat(int x, int y, int radiusSquared) {
+        int minRound = rc.getRoundNum() - DECAY_ROUNDS;
+        int threat = 0;
+
+        int index = head;
+        for (int i = size; --i >= 0; ) {
+            index = index == 0 ? CAPACITY - 1 : index - 1;
+
+            int round = rounds[index];
+            if (round <= minRound) {
+                break;
+            }
+
+            int location = locations[index];
+            int dx = (location >> 6) - x;
+            int dy = (location & 63) - y;
+
+            if (dx * dx + dy * dy <= radiusSquared) {
+                threat += counts[index] * (round - minRound);
+            }
+        }
+
+        return threat;
+    }
+}
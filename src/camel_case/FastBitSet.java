@@ -0,0 +1,55 @@
+package camel_case;
+
+import battlecode.common.MapLocation;
+
+public class FastBitSet {
+    public static final int LOCATION_CAPACITY = 1 << 12;
+
+    private long[] words;
+
+    // Indices of the words that have bits set, so clearing costs as much as the adds since the last clear
+    private int[] usedWords;
+    private int usedWordCount = 0;
+
+    public FastBitSet(int capacity) {
+        words = new long[(capacity + 63) >>> 6];
+        usedWords = new int[words.length];
+    }
+
+    public boolean add(int value) {
+        int index = value >>> 6;
+        long word = words[index];
+        long mask = 1L << value;
+
+        if ((word & mask) != 0) {
+            return false;
+        }
+
+        if (word == 0) {
+            usedWords[usedWordCount++] = index;
+        }
+
+        words[index] = word | mask;
+        return true;
+    }
+
+    public boolean contains(int value) {
+        return (words[value >>> 6] & (1L << value)) != 0;
+    }
+
+    public void clear() {
+        for (int i = usedWordCount; --i >= 0; ) {
+            words[usedWords[i]] = 0;
+        }
+
+        usedWordCount = 0;
+    }
+
+    public boolean add(MapLocation location) {
+        return add(PackedLocation.pack(location));
+    }
+
+    public boolean contains(MapLocation location) {
+        return contains(PackedLocation.pack(location));
+    }
+}
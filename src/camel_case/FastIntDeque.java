@@ -0,0 +1,62 @@
+package camel_case;
+
+public class FastIntDeque {
+    private int[] values;
+    private int mask;
+    private int head = 0;
+    private int tail = 0;
+
+    // Capacity is rounded up to a power of two so indices can wrap with a mask,
+    // with one slot to spare because head == tail means empty
+    public FastIntDeque(int capacity) {
+        int size = 1;
+        while (size < capacity + 1) {
+            size <<= 1;
+        }
+
+        values = new int[size];
+        mask = size - 1;
+    }
+
+    public void addFirst(int value) {
+        head = (head - 1) & mask;
+        values[head] = value;
+    }
+
+    public void addLast(int value) {
+        values[tail] = value;
+        tail = (tail + 1) & mask;
+    }
+
+    public int pollFirst() {
+        int value = values[head];
+        head = (head + 1) & mask;
+        return value;
+    }
+
+    public int pollLast() {
+        tail = (tail - 1) & mask;
+        return values[tail];
+    }
+
+    public int peekFirst() {
+        return values[head];
+    }
+
+    public int peekLast() {
+        return values[(tail - 1) & mask];
+    }
+
+    public boolean isEmpty() {
+        return head == tail;
+    }
+
+    public int size() {
+        return (tail - head) & mask;
+    }
+
+    public void clear() {
+        head = 0;
+        tail = 0;
+    }
+}
@@ -0,0 +1,87 @@
+package camel_case;
+
+import battlecode.common.GameConstants;
+
+public class FastIntMap {
+    public static final int ROBOT_CAPACITY = GameConstants.ROBOT_CAPACITY;
+
+    private int[] keys;
+    private int[] values;
+    private int[] stamps;
+    private int mask;
+    private int maxSize;
+    private int generation = 1;
+    private int size = 0;
+
+    // Open addressing with linear probing, the table is at least twice the capacity so probes always reach an empty slot
+    public FastIntMap(int capacity) {
+        int length = 1;
+        while (length < capacity * 2) {
+            length <<= 1;
+        }
+
+        keys = new int[length];
+        values = new int[length];
+        stamps = new int[length];
+        mask = length - 1;
+        maxSize = capacity;
+    }
+
+    // Returns false if the key is new and the map already holds capacity keys
+    public boolean put(int key, int value) {
+        int index = key & mask;
+        while (stamps[index] == generation) {
+            if (keys[index] == key) {
+                values[index] = value;
+                return true;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        if (size == maxSize) {
+            return false;
+        }
+
+        stamps[index] = generation;
+        keys[index] = key;
+        values[index] = value;
+        size++;
+        return true;
+    }
+
+    public int get(int key, int defaultValue) {
+        int index = key & mask;
+        while (stamps[index] == generation) {
+            if (keys[index] == key) {
+                return values[index];
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        return defaultValue;
+    }
+
+    public boolean containsKey(int key) {
+        int index = key & mask;
+        while (stamps[index] == generation) {
+            if (keys[index] == key) {
+                return true;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        generation++;
+        size = 0;
+    }
+}
@@ -0,0 +1,41 @@
+package camel_case;
+
+public class FastIntQueue {
+    private int[] values;
+    private int head = 0;
+    private int tail = 0;
+
+    // Capacity is the total number of values added between clears, values are never moved
+    public FastIntQueue(int capacity) {
+        values = new int[capacity];
+    }
+
+    public void add(int value) {
+        values[tail++] = value;
+    }
+
+    public int poll() {
+        return values[head++];
+    }
+
+    public int peek() {
+        return values[head];
+    }
+
+    public boolean isEmpty() {
+        return head == tail;
+    }
+
+    public int size() {
+        return tail - head;
+    }
+
+    public void clear() {
+        head = 0;
+        tail = 0;
+    }
+
+    public void addNeighbors(int location) {
+        tail = PackedLocation.writeNeighbors(values, tail, location);
+    }
+}
@@ -0,0 +1,38 @@
+package camel_case;
+
+public class FastIntStack {
+    private int[] values;
+    private int size = 0;
+
+    public FastIntStack(int capacity) {
+        values = new int[capacity];
+    }
+
+    public void push(int value) {
+        values[size++] = value;
+    }
+
+    public int pop() {
+        return values[--size];
+    }
+
+    public int peek() {
+        return values[size - 1];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void pushNeighbors(int location) {
+        size = PackedLocation.writeNeighbors(values, size, location);
+    }
+}
@@ -1,14 +1,24 @@
 package camel_case;
 
 public class Logger extends Globals {
-    private static StringBuilder sb = new StringBuilder();
+    public static final boolean ENABLED = false;
+
+    private static StringBuilder sb = new StringBuilder(256);
 
     public static void flush() {
+        if (!ENABLED) {
+            return;
+        }
+
         rc.setIndicatorString(sb.toString());
-        sb = new StringBuilder();
+        sb.setLength(0);
     }
 
     public static void log(String message) {
+        if (!ENABLED) {
+            return;
+        }
+
         if (sb.length() > 0) {
             sb.append(", ");
         }
@@ -0,0 +1,181 @@
+package camel_case;
+
+import battlecode.common.Clock;
+import battlecode.common.Direction;
+import battlecode.common.GameActionException;
+import battlecode.common.GameConstants;
+import battlecode.common.MapInfo;
+import battlecode.common.MapLocation;
+
+// Keeps the terrain in BitboardMap up-to-date and answers per-tile queries about everything this robot has seen
+public class MapMemory extends Globals {
+    // Tiles inside the vision disc can still change (water gets filled or dug, crumbs get collected, dams drop)
+    private static final int FULL_UPDATE_INTERVAL = 10;
+
+    // Half-width of the vision disc per row offset, for vision radius squared 20
+    private static final String VISION_HALF_WIDTHS = "\4\4\4\3\2";
+
+    private static int lastUpdateRound = -1;
+    private static int lastFullUpdateRound = -1;
+    private static MapLocation lastUpdateLocation;
+
+    // Infos of the last full scan that did not fit in the budget, recorded during the next updates
+    private static MapInfo[] pendingInfos;
+    private static int pendingCount = 0;
+
+    public static void update(int maxBytecodes) throws GameActionException {
+        int endBytecodes = Clock.getBytecodeNum() + maxBytecodes;
+
+        MapLocation myLocation = rc.getLocation();
+        int round = rc.getRoundNum();
+
+        boolean isIncremental = lastUpdateRound == round - 1
+            && round - lastFullUpdateRound < FULL_UPDATE_INTERVAL
+            && round != GameConstants.SETUP_ROUNDS
+            && lastUpdateLocation.isWithinDistanceSquared(myLocation, 2);
+
+        if (isIncremental) {
+            if (!lastUpdateLocation.equals(myLocation)) {
+                updateNewVision(lastUpdateLocation.directionTo(myLocation), myLocation);
+            }
+        } else {
+            pendingInfos = rc.senseNearbyMapInfos();
+            pendingCount = pendingInfos.length;
+            lastFullUpdateRound = round;
+        }
+
+        while (pendingCount > 0 && Clock.getBytecodeNum() < endBytecodes) {
+            pendingCount--;
+            BitboardMap.record(pendingInfos[pendingCount]);
+        }
+
+        lastUpdateRound = round;
+        lastUpdateLocation = myLocation;
+    }
+
+    private static void updateNewVision(Direction direction, MapLocation myLocation) throws GameActionException {
+        String offsets = Tables.NEW_VISION[direction.ordinal()];
+        int baseX = myLocation.x - Tables.VISION_OFFSET_BIAS;
+        int baseY = myLocation.y - Tables.VISION_OFFSET_BIAS;
+
+        for (int i = offsets.length(); --i >= 0; ) {
+            int offset = offsets.charAt(i);
+            int x = baseX + (offset >> 4);
+            int y = baseY + (offset & 15);
+
+            if (x < 0 || x >= mapWidth || y < 0 || y >= mapHeight) {
+                continue;
+            }
+
+            BitboardMap.record(rc.senseMapInfo(new MapLocation(x, y)));
+        }
+    }
+
+    public static boolean isKnown(int x, int y) {
+        return (BitboardMap.known[y] & (1L << x)) != 0;
+    }
+
+    public static boolean isWall(int x, int y) {
+        return (BitboardMap.walls[y] & (1L << x)) != 0;
+    }
+
+    public static boolean isWater(int x, int y) {
+        return (BitboardMap.water[y] & (1L << x)) != 0;
+    }
+
+    public static boolean isDam(int x, int y) {
+        return (BitboardMap.dams[y] & (1L << x)) != 0;
+    }
+
+    // Unknown tiles are assumed to be passable
+    public static boolean isBlocked(int x, int y) {
+        return ((BitboardMap.walls[y] | BitboardMap.dams[y]) & (1L << x)) != 0;
+    }
+
+    public static boolean isAllySpawnZone(int x, int y) {
+        return (BitboardMap.allySpawnZones[y] & (1L << x)) != 0;
+    }
+
+    public static boolean isOpponentSpawnZone(int x, int y) {
+        return (BitboardMap.opponentSpawnZones[y] & (1L << x)) != 0;
+    }
+
+    public static boolean hasCrumbs(int x, int y) {
+        return (BitboardMap.crumbs[y] & (1L << x)) != 0;
+    }
+
+    // Clears the tiles of the board that are inside the current vision disc
+    public static void clearVisible(long[] board) {
+        MapLocation myLocation = rc.getLocation();
+        int x = myLocation.x;
+
+        for (int dy = -4; dy <= 4; dy++) {
+            int y = myLocation.y + dy;
+            if (y < 0 || y >= mapHeight) {
+                continue;
+            }
+
+            int halfWidth = VISION_HALF_WIDTHS.charAt(dy < 0 ? -dy : dy);
+            long mask = (1L << (2 * halfWidth + 1)) - 1;
+            mask = x >= halfWidth ? mask << (x - halfWidth) : mask >>> (halfWidth - x);
+
+            board[y] &= ~mask;
+        }
+    }
+
+    // Returns the set tile of the board closest to the given location, or null if none is within the row range
+    public static MapLocation findNearest(long[] board, MapLocation location, int maxRowDistance) {
+        int x = location.x;
+        int y = location.y;
+
+        int bestX = -1;
+        int bestY = -1;
+        int minDistance = Integer.MAX_VALUE;
+
+        for (int dy = 0; dy <= maxRowDistance && dy * dy < minDistance; dy++) {
+            int belowY = y - dy;
+            if (belowY >= 0 && board[belowY] != 0) {
+                int nearestX = findNearestInRow(board[belowY], x);
+                int distance = (nearestX - x) * (nearestX - x) + dy * dy;
+                if (distance < minDistance) {
+                    bestX = nearestX;
+                    bestY = belowY;
+                    minDistance = distance;
+                }
+            }
+
+            int aboveY = y + dy;
+            if (dy > 0 && aboveY < mapHeight && board[aboveY] != 0) {
+                int nearestX = findNearestInRow(board[aboveY], x);
+                int distance = (nearestX - x) * (nearestX - x) + dy * dy;
+                if (distance < minDistance) {
+                    bestX = nearestX;
+                    bestY = aboveY;
+                    minDistance = distance;
+                }
+            }
+        }
+
+        return bestX == -1 ? null : new MapLocation(bestX, bestY);
+    }
+
+    // The row must not be empty
+    private static int findNearestInRow(long row, int x) {
+        int nearestX = -1;
+
+        long right = row >>> x;
+        if (right != 0) {
+            nearestX = x + Long.numberOfTrailingZeros(right);
+        }
+
+        long left = row & ((1L << x) - 1);
+        if (left != 0) {
+            int leftX = 63 - Long.numberOfLeadingZeros(left);
+            if (nearestX == -1 || x - leftX < nearestX - x) {
+                nearestX = leftX;
+            }
+        }
+
+        return nearestX;
+    }
+}
@@ -12,7 +12,10 @@ public class Navigator extends Globals {
 
     public static void moveTo(MapLocation target) throws GameActionException {
         MapLocation myLocation = rc.getLocation();
-        rc.setIndicatorLine(rc.getLocation(), target, 255, 0, 0);
+
+        if (Logger.ENABLED) {
+            rc.setIndicatorLine(myLocation, target, 255, 0, 0);
+        }
 
         if (myLocation.equals(target)) {
             return;
@@ -26,6 +29,7 @@ public class Navigator extends Globals {
 
         MapLocation nextLocation = myLocation.add(myLocation.directionTo(target));
         if (rc.canSenseLocation(nextLocation) && rc.senseMapInfo(nextLocation).isDam()) {
+            SetupRouting.moveToStaging(target);
             return;
         }
 
@@ -37,8 +41,15 @@ public class Navigator extends Globals {
             roundsSinceMovingCloserToTarget++;
         }
 
-        if (roundsSinceMovingCloserToTarget < 3) {
+        if (CheapMode.isActive()) {
+            if (Logger.ENABLED) {
+                Logger.log("bf cheap");
+            }
+        } else if (roundsSinceMovingCloserToTarget < 3) {
+            Profiler.start(Profiler.BELLMAN_FORD_NAVIGATOR);
             Direction bellmanFordDirection = BellmanFordNavigator.getBestDirection(target);
+            Profiler.end(Profiler.BELLMAN_FORD_NAVIGATOR);
+
             if (bellmanFordDirection != null) {
                 MapLocation bellmanFordLocation = rc.adjacentLocation(bellmanFordDirection);
                 if (rc.canFill(bellmanFordLocation)) {
@@ -49,20 +60,72 @@ public class Navigator extends Globals {
                     rc.move(bellmanFordDirection);
                 }
 
-                Logger.log("bf " + bellmanFordDirection);
+                if (Logger.ENABLED) {
+                    Logger.log("bf " + bellmanFordDirection);
+                }
+
                 return;
             } else {
-                Logger.log("bf null");
+                if (Logger.ENABLED) {
+                    Logger.log("bf null");
+                }
             }
         } else {
-            Logger.log("bf n/a");
+            if (Logger.ENABLED) {
+                Logger.log("bf n/a");
+            }
         }
 
         if (!rc.isMovementReady()) {
             return;
         }
 
+        Profiler.start(Profiler.BUG_NAVIGATOR);
         BugNavigator.moveTo(target);
+        Profiler.end(Profiler.BUG_NAVIGATOR);
+    }
+
+    public static boolean moveAlong(DistanceField field) throws GameActionException {
+        MapLocation myLocation = rc.getLocation();
+
+        int bestDistance = field.getDistance(myLocation.x, myLocation.y);
+        if (bestDistance <= 0) {
+            return false;
+        }
+
+        Direction bestDirection = null;
+        for (int i = adjacentDirections.length; --i >= 0; ) {
+            Direction direction = adjacentDirections[i];
+            MapLocation location = myLocation.add(direction);
+            if (!rc.onTheMap(location) || (!rc.canMove(direction) && !rc.canFill(location))) {
+                continue;
+            }
+
+            int distance = field.getDistance(location.x, location.y);
+            if (distance >= 0 && distance < bestDistance) {
+                bestDirection = direction;
+                bestDistance = distance;
+            }
+        }
+
+        if (bestDirection == null) {
+            return false;
+        }
+
+        MapLocation bestLocation = myLocation.add(bestDirection);
+        if (rc.canFill(bestLocation)) {
+            rc.fill(bestLocation);
+        }
+
+        if (rc.canMove(bestDirection)) {
+            rc.move(bestDirection);
+        }
+
+        if (Logger.ENABLED) {
+            Logger.log("df " + bestDirection);
+        }
+
+        return true;
     }
 
     public static void reset() {
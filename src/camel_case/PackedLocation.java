@@ -0,0 +1,116 @@
+package camel_case;
+
+import battlecode.common.Direction;
+import battlecode.common.MapLocation;
+
+// Locations packed as (x << 6) | y, MapLocation objects are only created where the RobotController needs them
+public class PackedLocation extends Globals {
+    private static final Direction[] DIRECTIONS_BY_SIGN = {
+        Direction.SOUTHWEST, Direction.WEST, Direction.NORTHWEST,
+        Direction.SOUTH, Direction.CENTER, Direction.NORTH,
+        Direction.SOUTHEAST, Direction.EAST, Direction.NORTHEAST
+    };
+
+    // Only valid for on-map locations, a negative coordinate corrupts the other one
+    public static int pack(MapLocation location) {
+        return (location.x << 6) | location.y;
+    }
+
+    public static int pack(int x, int y) {
+        return (x << 6) | y;
+    }
+
+    public static int getX(int location) {
+        return location >> 6;
+    }
+
+    public static int getY(int location) {
+        return location & 63;
+    }
+
+    public static MapLocation unpack(int location) {
+        return new MapLocation(location >> 6, location & 63);
+    }
+
+    public static int add(int location, Direction direction) {
+        return location + Tables.PACKED_OFFSETS.charAt(direction.ordinal()) - 65;
+    }
+
+    public static boolean isOnMap(int x, int y) {
+        return x >= 0 && y >= 0 && x < mapWidth && y < mapHeight;
+    }
+
+    public static int distanceSquared(int a, int b) {
+        int dx = (a >> 6) - (b >> 6);
+        int dy = (a & 63) - (b & 63);
+        return dx * dx + dy * dy;
+    }
+
+    public static int distance1d(int a, int b) {
+        return Math.max(Math.abs((a >> 6) - (b >> 6)), Math.abs((a & 63) - (b & 63)));
+    }
+
+    // Same rounding as MapLocation.directionTo: straight when one axis is at least 2.414 times the other
+    public static Direction directionTo(int from, int to) {
+        int dx = (to >> 6) - (from >> 6);
+        int dy = (to & 63) - (from & 63);
+
+        int absDx = Math.abs(dx);
+        int absDy = Math.abs(dy);
+
+        if (absDx <= Tables.MAX_DELTA && absDy <= Tables.MAX_DELTA) {
+            return allDirections[Tables.DIRECTION_TO.charAt((dx + Tables.MAX_DELTA) * Tables.DELTA_SIZE + dy + Tables.MAX_DELTA)];
+        }
+
+        if (absDx * 1000 >= absDy * 2414) {
+            dy = 0;
+        } else if (absDy * 1000 >= absDx * 2414) {
+            dx = 0;
+        }
+
+        return DIRECTIONS_BY_SIGN[(dx > 0 ? 6 : dx < 0 ? 0 : 3) + (dy > 0 ? 2 : dy < 0 ? 0 : 1)];
+    }
+
+    // Writes the on-map neighbors of a location to values, starting at index, returns the new end index
+    public static int writeNeighbors(int[] values, int index, int location) {
+        int x = location >> 6;
+        int y = location & 63;
+
+        boolean hasWest = x > 0;
+        boolean hasEast = x < mapWidth - 1;
+
+        if (y > 0) {
+            values[index++] = location - 1;
+
+            if (hasWest) {
+                values[index++] = location - 65;
+            }
+
+            if (hasEast) {
+                values[index++] = location + 63;
+            }
+        }
+
+        if (y < mapHeight - 1) {
+            values[index++] = location + 1;
+
+            if (hasWest) {
+                values[index++] = location - 63;
+            }
+
+            if (hasEast) {
+                values[index++] = location + 65;
+            }
+        }
+
+        if (hasWest) {
+            values[index++] = location - 64;
+        }
+
+        if (hasEast) {
+            values[index++] = location + 64;
+        }
+
+        return index;
+    }
+}
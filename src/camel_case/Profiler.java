@@ -0,0 +1,114 @@
+package camel_case;
+
+import battlecode.common.Clock;
+import battlecode.common.GameConstants;
+
+public class Profiler extends Globals {
+    public static final boolean ENABLED = false;
+
+    public static final int SPAWN = 0;
+    public static final int SHARED_ARRAY_UPDATE = 1;
+    public static final int PICK_UP_FLAG = 2;
+    public static final int BRING_FLAG_HOME = 3;
+    public static final int BUILD_TRAP_1 = 4;
+    public static final int ATTACK_OPPONENT_1 = 5;
+    public static final int ATTACK_OPPONENT_2 = 6;
+    public static final int HEAL_FRIENDLY = 7;
+    public static final int BUILD_TRAP_2 = 8;
+    public static final int BUILD_TRAP_3 = 9;
+    public static final int BUILD_TRAP_4 = 10;
+    public static final int MOVE_TO_SAFETY = 11;
+    public static final int MOVE_TO_CRUMBS = 12;
+    public static final int MOVE_TO_POI = 13;
+    public static final int MOVE_TO_FLAG = 14;
+    public static final int WANDER = 15;
+    public static final int BELLMAN_FORD_NAVIGATOR = 16;
+    public static final int BUG_NAVIGATOR = 17;
+    public static final int LOGGER_FLUSH = 18;
+    public static final int UPDATE_MAP = 19;
+    public static final int UPDATE_DANGER = 20;
+    public static final int TERRAIN_SHARING = 21;
+    public static final int SYMMETRY = 22;
+    public static final int ENEMY_FLAG_SPAWNS = 23;
+
+    private static final String[] SPAN_NAMES = {
+        "spawn",
+        "SharedArray.update",
+        "pickUpFlag",
+        "bringFlagHome",
+        "buildTrap 1",
+        "attackOpponent 1",
+        "attackOpponent 2",
+        "healFriendly",
+        "buildTrap 2",
+        "buildTrap 3",
+        "buildTrap 4",
+        "moveToSafety",
+        "moveToCrumbs",
+        "moveToPOI",
+        "moveToFlag",
+        "wander",
+        "BellmanFordNavigator.getBestDirection",
+        "BugNavigator.moveTo",
+        "Logger.flush",
+        "MapMemory.update",
+        "DangerField.update",
+        "TerrainSharing.update",
+        "Symmetry.update",
+        "EnemyFlagSpawns.update"
+    };
+
+    private static int[] startRounds = new int[SPAN_NAMES.length];
+    private static int[] startBytecodes = new int[SPAN_NAMES.length];
+
+    private static int[] calls = new int[SPAN_NAMES.length];
+    private static int[] totalBytecodes = new int[SPAN_NAMES.length];
+    private static int[] minBytecodes = new int[SPAN_NAMES.length];
+    private static int[] maxBytecodes = new int[SPAN_NAMES.length];
+
+    public static void start(int span) {
+        if (!ENABLED) {
+            return;
+        }
+
+        startRounds[span] = rc.getRoundNum();
+        startBytecodes[span] = Clock.getBytecodeNum();
+    }
+
+    public static void end(int span) {
+        if (!ENABLED) {
+            return;
+        }
+
+        int endBytecodes = Clock.getBytecodeNum();
+        int usedBytecodes = (rc.getRoundNum() - startRounds[span]) * GameConstants.BYTECODE_LIMIT + endBytecodes - startBytecodes[span];
+
+        if (calls[span] == 0 || usedBytecodes < minBytecodes[span]) {
+            minBytecodes[span] = usedBytecodes;
+        }
+
+        if (usedBytecodes > maxBytecodes[span]) {
+            maxBytecodes[span] = usedBytecodes;
+        }
+
+        calls[span]++;
+        totalBytecodes[span] += usedBytecodes;
+    }
+
+    public static void printSummary() {
+        if (!ENABLED) {
+            return;
+        }
+
+        for (int i = 0; i < SPAN_NAMES.length; i++) {
+            if (calls[i] == 0) {
+                continue;
+            }
+
+            System.out.println("Profile " + SPAN_NAMES[i] + ": "
+                + calls[i] + " calls, min " + minBytecodes[i]
+                + ", avg " + (totalBytecodes[i] / calls[i])
+                + ", max " + maxBytecodes[i]);
+        }
+    }
+}
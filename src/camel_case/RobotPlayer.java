@@ -5,8 +5,15 @@ import battlecode.common.GameConstants;
 import battlecode.common.RobotController;
 
 public class RobotPlayer extends Globals {
+    private static final int TARGET_FLAG_SPAWN_REFRESH_ROUNDS = 50;
+
+    private static boolean hasPrintedSummary = false;
+
     public static void run(RobotController robotController) {
         Globals.init(robotController);
+        BitboardMap.init();
+
+        ComputePool.register(SharedArray.WORK_ITEM_TARGET_FLAG_SPAWN, new TargetFlagSpawnJob(), TARGET_FLAG_SPAWN_REFRESH_ROUNDS);
 
         while (true) {
             act();
@@ -20,7 +27,12 @@ public class RobotPlayer extends Globals {
 
         try {
             Unit.act();
-            Logger.flush();
+
+            if (Logger.ENABLED) {
+                Profiler.start(Profiler.LOGGER_FLUSH);
+                Logger.flush();
+                Profiler.end(Profiler.LOGGER_FLUSH);
+            }
         } catch (Exception e) {
             System.out.println("Exception: " + e.getMessage());
             e.printStackTrace();
@@ -33,6 +45,9 @@ public class RobotPlayer extends Globals {
             ? endBytecodes - startBytecodes
             : (GameConstants.BYTECODE_LIMIT - startBytecodes) + Math.max(0, endRound - startRound - 1) * GameConstants.BYTECODE_LIMIT + endBytecodes;
 
+        BytecodeHistogram.record(usedBytecodes, startRound != endRound);
+        CheapMode.update(usedBytecodes, startRound != endRound);
+
         double bytecodePercentage = (double) usedBytecodes / (double) GameConstants.BYTECODE_LIMIT * 100.0;
 
         if (startRound != endRound) {
@@ -40,5 +55,22 @@ public class RobotPlayer extends Globals {
         } else if (bytecodePercentage > 95) {
             System.out.println(rc.getLocation() + " High bytecode usage: " + usedBytecodes + " (" + bytecodePercentage + "%)");
         }
+
+        if (!hasPrintedSummary && endRound >= GameConstants.GAME_MAX_NUMBER_OF_ROUNDS - 1) {
+            BytecodeHistogram.printSummary();
+            Profiler.printSummary();
+            hasPrintedSummary = true;
+        }
+
+        if (startRound != endRound) {
+            return;
+        }
+
+        try {
+            BackgroundJobs.run();
+        } catch (Exception e) {
+            System.out.println("Exception: " + e.getMessage());
+            e.printStackTrace();
+        }
     }
 }
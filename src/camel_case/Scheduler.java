@@ -0,0 +1,63 @@
+package camel_case;
+
+import battlecode.common.Clock;
+
+public class Scheduler {
+    public static final int BUILD_TRAP = 0;
+    public static final int ATTACK_OPPONENT = 1;
+    public static final int HEAL_FRIENDLY = 2;
+    public static final int MOVE_TO_SAFETY = 3;
+    public static final int MOVE_TO_CRUMBS = 4;
+    public static final int MOVE_TO_TARGET = 5;
+    public static final int UPDATE_MAP = 6;
+    public static final int TERRAIN_SHARING = 7;
+    public static final int SYMMETRY = 8;
+    public static final int ENEMY_FLAG_SPAWNS = 9;
+
+    private static final boolean[] REQUIRED = {false, true, false, true, false, true, false, false, false, false};
+    // Moving to crumbs uses the navigation budget reserved for MOVE_TO_TARGET, which is cheap once the robot has moved
+    // UPDATE_MAP is also the budget MapMemory.update stops at, the other map phases are sized for their worst case
+    private static final int[] ESTIMATED_COSTS = {1500, 3000, 2500, 1000, 500, 12000, 2500, 2000, 3000, 1000};
+
+    private static final int SAFETY_MARGIN = 500;
+
+    private static boolean[] hasRun = new boolean[REQUIRED.length];
+    private static int reservedBytecodes;
+
+    public static void startTurn() {
+        reservedBytecodes = 0;
+
+        for (int i = REQUIRED.length; --i >= 0; ) {
+            hasRun[i] = false;
+
+            if (REQUIRED[i]) {
+                reservedBytecodes += ESTIMATED_COSTS[i];
+            }
+        }
+    }
+
+    public static int getEstimatedCost(int phase) {
+        return ESTIMATED_COSTS[phase];
+    }
+
+    public static boolean shouldRun(int phase) {
+        if (REQUIRED[phase]) {
+            if (!hasRun[phase]) {
+                hasRun[phase] = true;
+                reservedBytecodes -= ESTIMATED_COSTS[phase];
+            }
+
+            return true;
+        }
+
+        if (Clock.getBytecodesLeft() >= ESTIMATED_COSTS[phase] + reservedBytecodes + SAFETY_MARGIN) {
+            return true;
+        }
+
+        if (Logger.ENABLED) {
+            Logger.log("skip " + phase);
+        }
+
+        return false;
+    }
+}
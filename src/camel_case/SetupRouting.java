@@ -0,0 +1,121 @@
+package camel_case;
+
+import battlecode.common.Direction;
+import battlecode.common.GameActionException;
+import battlecode.common.GameConstants;
+import battlecode.common.MapLocation;
+
+// Routes robots to staging tiles next to the dams during the setup phase, timed to arrive when the dams drop
+public class SetupRouting extends Globals {
+    private static final int REFRESH_ROUNDS = 20;
+
+    // Extra rounds to slide along the dam and to make up for detours around robots
+    private static final int APPROACH_SLACK_ROUNDS = 10;
+
+    // Known tiles next to a dam that are neither walls nor dams themselves
+    private static long[] stagingTiles = new long[GameConstants.MAP_MAX_HEIGHT];
+    private static DistanceField stagingField = new DistanceField();
+
+    public static void update() {
+        int round = rc.getRoundNum();
+        if (round >= GameConstants.SETUP_ROUNDS || BackgroundJobs.isQueued(stagingField)) {
+            return;
+        }
+
+        if (stagingField.getStartRound() != -1 && round - stagingField.getStartRound() < REFRESH_ROUNDS) {
+            return;
+        }
+
+        if (!updateStagingTiles()) {
+            return;
+        }
+
+        stagingField.reset(stagingTiles);
+        BackgroundJobs.add(stagingField);
+    }
+
+    public static boolean hasStagingDistance() {
+        MapLocation myLocation = rc.getLocation();
+        return stagingField.getDistance(myLocation.x, myLocation.y) >= 0;
+    }
+
+    public static boolean shouldApproach() {
+        MapLocation myLocation = rc.getLocation();
+        int distance = stagingField.getDistance(myLocation.x, myLocation.y);
+        return distance >= 0 && GameConstants.SETUP_ROUNDS - rc.getRoundNum() <= distance + APPROACH_SLACK_ROUNDS;
+    }
+
+    // Returns false if no staging tile is reachable yet, the target may be null
+    public static boolean moveToStaging(MapLocation target) throws GameActionException {
+        MapLocation myLocation = rc.getLocation();
+
+        int distance = stagingField.getDistance(myLocation.x, myLocation.y);
+        if (distance < 0) {
+            return false;
+        }
+
+        if (distance > 0) {
+            return Navigator.moveAlong(stagingField);
+        }
+
+        if (target == null || !rc.isMovementReady()) {
+            return true;
+        }
+
+        // Slide along the dam towards the part closest to the target
+        Direction bestDirection = null;
+        int minDistance = myLocation.distanceSquaredTo(target);
+
+        for (int i = adjacentDirections.length; --i >= 0; ) {
+            Direction direction = adjacentDirections[i];
+            MapLocation location = myLocation.add(direction);
+            if (!rc.canMove(direction) || !BitboardMap.get(stagingTiles, location.x, location.y)) {
+                continue;
+            }
+
+            int targetDistance = location.distanceSquaredTo(target);
+            if (targetDistance < minDistance) {
+                bestDirection = direction;
+                minDistance = targetDistance;
+            }
+        }
+
+        if (bestDirection != null) {
+            if (Logger.ENABLED) {
+                Logger.log("staging " + bestDirection);
+            }
+
+            rc.move(bestDirection);
+        }
+
+        return true;
+    }
+
+    // Returns false if no dams are known yet
+    private static boolean updateStagingTiles() {
+        boolean hasStagingTiles = false;
+
+        long[] dams = BitboardMap.dams;
+        int lastRow = mapHeight - 1;
+
+        long below = 0;
+        long current = dams[0];
+
+        for (int y = 0; y <= lastRow; y++) {
+            long above = y < lastRow ? dams[y + 1] : 0;
+            long rows = below | current | above;
+
+            long tiles = (rows | (rows << 1) | (rows >>> 1)) & BitboardMap.known[y] & ~BitboardMap.walls[y] & ~current & BitboardMap.fullRow;
+            stagingTiles[y] = tiles;
+
+            if (tiles != 0) {
+                hasStagingTiles = true;
+            }
+
+            below = current;
+            current = above;
+        }
+
+        return hasStagingTiles;
+    }
+}
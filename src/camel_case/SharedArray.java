@@ -10,8 +10,30 @@ public class SharedArray extends Globals {
     private static int ROUND_INDEX = 0;
     private static int POI_COUNT_INDEX = 1;
     private static int POI_OFFSET = 2;
+    private static int WORK_ITEM_OFFSET = 16;
+    private static int SPAWN_THREAT_OFFSET = 17;
+    private static int TERRAIN_HEAD_INDEX = 20;
+    private static int TERRAIN_WRITES_INDEX = 21;
+    private static int TERRAIN_OFFSET = 22;
+    private static int SYMMETRY_INDEX = 58;
+    private static int PRUNED_FLAG_SPAWNS_INDEX = 59;
+    private static int FLAG_CARRIED_INDEX = 60;
+    private static int TARGET_FLAG_SPAWN_INDEX = 61;
 
-    private static MapLocation[] flagSpawns;
+    public static final int MAX_POI_COUNT = 14;
+    public static final int WORK_ITEM_COUNT = 1;
+    public static final int WORK_ITEM_TARGET_FLAG_SPAWN = 0;
+
+    public static final int FLAG_SPAWN_COUNT = 3;
+
+    // Every message is a chunk index, a wall mask and a water mask
+    public static final int TERRAIN_MESSAGE_COUNT = 12;
+    private static final int TERRAIN_MESSAGE_SIZE = 3;
+
+    // Robots read the messages once per round, so at most half of the buffer may be overwritten per round
+    private static final int MAX_TERRAIN_WRITES_PER_ROUND = TERRAIN_MESSAGE_COUNT / 2;
+
+    private static int[] flagSpawns;
 
     public static void update() throws GameActionException {
         int currentRound = rc.getRoundNum();
@@ -19,6 +41,7 @@ public class SharedArray extends Globals {
         if (rc.readSharedArray(ROUND_INDEX) != currentRound) {
             rc.writeSharedArray(ROUND_INDEX, currentRound);
             rc.writeSharedArray(POI_COUNT_INDEX, 0);
+            rc.writeSharedArray(TERRAIN_WRITES_INDEX, 0);
         }
 
         if (flagSpawns == null) {
@@ -32,7 +55,11 @@ public class SharedArray extends Globals {
         FlagInfo[] flags = rc.senseNearbyFlags(GameConstants.VISION_RADIUS_SQUARED);
         for (int i = flags.length; --i >= 0; ) {
             FlagInfo flag = flags[i];
-            if ((flag.getTeam() == myTeam && (flag.isPickedUp() || !isFlagSpawn(flag.getLocation())))
+            if (flag.getTeam() == opponentTeam && flag.isPickedUp()) {
+                rc.writeSharedArray(FLAG_CARRIED_INDEX, currentRound);
+            }
+
+            if ((flag.getTeam() == myTeam && (flag.isPickedUp() || !isFlagSpawn(PackedLocation.pack(flag.getLocation()))))
                 || (flag.getTeam() == opponentTeam && !flag.isPickedUp())
                 || (flag.getTeam() == opponentTeam && rc.senseNearbyRobots(flag.getLocation(), 8, myTeam).length < 3)) {
                 addPOI(flag.getLocation());
@@ -41,15 +68,20 @@ public class SharedArray extends Globals {
     }
 
     public static void addPOI(MapLocation location) throws GameActionException {
+        int packedLocation = PackedLocation.pack(location);
         int count = rc.readSharedArray(POI_COUNT_INDEX);
 
         for (int i = count; --i >= 0; ) {
-            if (getPOI(i).equals(location)) {
+            if (getPOI(i) == packedLocation) {
                 return;
             }
         }
 
-        writeLocation(POI_OFFSET + count, location);
+        if (count == MAX_POI_COUNT) {
+            return;
+        }
+
+        writeLocation(POI_OFFSET + count, packedLocation);
         rc.writeSharedArray(POI_COUNT_INDEX, count + 1);
     }
 
@@ -57,39 +89,151 @@ public class SharedArray extends Globals {
         return rc.readSharedArray(POI_COUNT_INDEX);
     }
 
-    public static MapLocation getPOI(int index) throws GameActionException {
+    public static int getPOI(int index) throws GameActionException {
         return readLocation(POI_OFFSET + index);
     }
 
-    private static void writeLocation(int index, MapLocation location) throws GameActionException {
-        rc.writeSharedArray(index, (location.y * 60 + location.x) + 1);
+    public static int readPOIs(int[] buffer) throws GameActionException {
+        int count = rc.readSharedArray(POI_COUNT_INDEX);
+        for (int i = count; --i >= 0; ) {
+            buffer[i] = readLocation(POI_OFFSET + i);
+        }
+
+        return count;
+    }
+
+    public static int readWorkItem(int item) throws GameActionException {
+        return rc.readSharedArray(WORK_ITEM_OFFSET + item);
+    }
+
+    public static void writeWorkItem(int item, int value) throws GameActionException {
+        rc.writeSharedArray(WORK_ITEM_OFFSET + item, value);
+    }
+
+    public static int getTerrainHead() throws GameActionException {
+        return rc.readSharedArray(TERRAIN_HEAD_INDEX);
+    }
+
+    public static boolean canWriteTerrain() throws GameActionException {
+        return rc.readSharedArray(TERRAIN_WRITES_INDEX) < MAX_TERRAIN_WRITES_PER_ROUND;
+    }
+
+    public static void writeTerrain(int chunk, int wallMask, int waterMask) throws GameActionException {
+        int head = rc.readSharedArray(TERRAIN_HEAD_INDEX);
+        int index = TERRAIN_OFFSET + (head % TERRAIN_MESSAGE_COUNT) * TERRAIN_MESSAGE_SIZE;
+
+        rc.writeSharedArray(index, chunk + 1);
+        rc.writeSharedArray(index + 1, wallMask);
+        rc.writeSharedArray(index + 2, waterMask);
+
+        rc.writeSharedArray(TERRAIN_HEAD_INDEX, (head + 1) & 0xFFFF);
+        rc.writeSharedArray(TERRAIN_WRITES_INDEX, rc.readSharedArray(TERRAIN_WRITES_INDEX) + 1);
+    }
+
+    // Returns -1 if the message has not been written
+    public static int readTerrainChunk(int message) throws GameActionException {
+        return rc.readSharedArray(TERRAIN_OFFSET + (message % TERRAIN_MESSAGE_COUNT) * TERRAIN_MESSAGE_SIZE) - 1;
+    }
+
+    public static int readTerrainWalls(int message) throws GameActionException {
+        return rc.readSharedArray(TERRAIN_OFFSET + (message % TERRAIN_MESSAGE_COUNT) * TERRAIN_MESSAGE_SIZE + 1);
+    }
+
+    public static int readTerrainWater(int message) throws GameActionException {
+        return rc.readSharedArray(TERRAIN_OFFSET + (message % TERRAIN_MESSAGE_COUNT) * TERRAIN_MESSAGE_SIZE + 2);
+    }
+
+    public static int getEliminatedSymmetries() throws GameActionException {
+        return rc.readSharedArray(SYMMETRY_INDEX);
+    }
+
+    public static void setEliminatedSymmetries(int symmetries) throws GameActionException {
+        rc.writeSharedArray(SYMMETRY_INDEX, symmetries);
+    }
+
+    public static int getPrunedFlagSpawns() throws GameActionException {
+        return rc.readSharedArray(PRUNED_FLAG_SPAWNS_INDEX);
+    }
+
+    public static void setPrunedFlagSpawns(int mask) throws GameActionException {
+        rc.writeSharedArray(PRUNED_FLAG_SPAWNS_INDEX, mask);
+    }
+
+    // Returns -1 if no candidate has been published yet
+    public static int getTargetFlagSpawn() throws GameActionException {
+        return rc.readSharedArray(TARGET_FLAG_SPAWN_INDEX) - 1;
+    }
+
+    public static void setTargetFlagSpawn(int candidate) throws GameActionException {
+        rc.writeSharedArray(TARGET_FLAG_SPAWN_INDEX, candidate + 1);
+    }
+
+    // True if an opponent flag was seen carried recently enough that it may not be back at its spawn yet
+    public static boolean isOpponentFlagCarried() throws GameActionException {
+        int round = rc.readSharedArray(FLAG_CARRIED_INDEX);
+        return round != 0 && rc.getRoundNum() - round <= GameConstants.FLAG_DROPPED_RESET_ROUNDS;
+    }
+
+    public static int getFlagSpawn(int index) {
+        if (flagSpawns == null) {
+            setFlagSpawns();
+        }
+
+        return flagSpawns[index];
+    }
+
+    // Stored as the round divided by 4 and the opponent count capped at 15, a round bucket keeps its highest count
+    public static void writeSpawnThreat(int flagSpawn, int round, int count) throws GameActionException {
+        int value = ((round >> 2) << 4) | Math.min(count, 15);
+
+        int previousValue = rc.readSharedArray(SPAWN_THREAT_OFFSET + flagSpawn);
+        if ((previousValue >> 4) == (round >> 2) && previousValue > value) {
+            return;
+        }
+
+        rc.writeSharedArray(SPAWN_THREAT_OFFSET + flagSpawn, value);
+    }
+
+    // Opponent count weighted by decayRounds minus the age of the sighting, 0 if there is none or it is too old
+    public static int getSpawnThreat(int flagSpawn, int decayRounds) throws GameActionException {
+        int value = rc.readSharedArray(SPAWN_THREAT_OFFSET + flagSpawn);
+        if (value == 0) {
+            return 0;
+        }
+
+        int age = rc.getRoundNum() - ((value >> 4) << 2);
+        return age < decayRounds ? (value & 15) * (decayRounds - age) : 0;
+    }
+
+    private static void writeLocation(int index, int location) throws GameActionException {
+        rc.writeSharedArray(index, location + 1);
     }
 
-    private static MapLocation readLocation(int index) throws GameActionException {
-        int value = rc.readSharedArray(index) - 1;
-        return new MapLocation(value % 60, value / 60);
+    private static int readLocation(int index) throws GameActionException {
+        return rc.readSharedArray(index) - 1;
     }
 
     private static void setFlagSpawns() {
-        FastSet set = new FastSet();
+        FastBitSet set = new FastBitSet(FastBitSet.LOCATION_CAPACITY);
 
-        flagSpawns = new MapLocation[3];
+        flagSpawns = new int[FLAG_SPAWN_COUNT];
         int nextFlagSpawn = 0;
 
         MapLocation[] spawnLocations = rc.getAllySpawnLocations();
         for (int i = spawnLocations.length; --i >= 0; ) {
-            MapLocation location = spawnLocations[i];
+            int location = PackedLocation.pack(spawnLocations[i]);
 
             boolean isTopLeft = true;
             for (int j = adjacentDirections.length; --j >= 0; ) {
-                if (set.contains(location.add(adjacentDirections[j]))) {
+                int neighbor = PackedLocation.add(location, adjacentDirections[j]);
+                if (neighbor >= 0 && set.contains(neighbor)) {
                     isTopLeft = false;
                     break;
                 }
             }
 
             if (isTopLeft) {
-                flagSpawns[nextFlagSpawn] = location.add(Direction.SOUTHWEST);
+                flagSpawns[nextFlagSpawn] = PackedLocation.add(location, Direction.SOUTHWEST);
                 nextFlagSpawn++;
             }
 
@@ -97,7 +241,7 @@ public class SharedArray extends Globals {
         }
     }
 
-    private static boolean isFlagSpawn(MapLocation location) {
-        return flagSpawns[0].equals(location) || flagSpawns[1].equals(location) || flagSpawns[2].equals(location);
+    private static boolean isFlagSpawn(int location) {
+        return flagSpawns[0] == location || flagSpawns[1] == location || flagSpawns[2] == location;
     }
 }
@@ -0,0 +1,125 @@
+package camel_case;
+
+import battlecode.common.GameActionException;
+
+// Eliminates map symmetries that contradict the terrain memory, and mirrors the memory once one symmetry is left
+public class Symmetry extends Globals {
+    public static final int ROTATIONAL = 1;
+    public static final int HORIZONTAL = 2;
+    public static final int VERTICAL = 4;
+
+    private static final int ALL = ROTATIONAL | HORIZONTAL | VERTICAL;
+
+    private static final int ROWS_PER_UPDATE = 10;
+
+    private static int candidates = ALL;
+    private static int nextRow = 0;
+
+    public static void update() throws GameActionException {
+        int eliminated = readEliminated();
+        int previousCandidates = candidates;
+
+        for (int i = ROWS_PER_UPDATE; --i >= 0; ) {
+            if (isKnown()) {
+                mirrorRow(nextRow, candidates);
+            } else {
+                checkRow(nextRow);
+            }
+
+            nextRow = nextRow == mapHeight - 1 ? 0 : nextRow + 1;
+        }
+
+        writeEliminated(eliminated, previousCandidates);
+    }
+
+    public static boolean isKnown() {
+        return candidates == ROTATIONAL || candidates == HORIZONTAL || candidates == VERTICAL;
+    }
+
+    public static int getCandidates() {
+        return candidates;
+    }
+
+    public static boolean isCandidate(int symmetry) {
+        return (candidates & symmetry) != 0;
+    }
+
+    public static int mirror(int location, int symmetry) {
+        int x = location >> 6;
+        int y = location & 63;
+
+        if (symmetry != VERTICAL) {
+            x = mapWidth - 1 - x;
+        }
+
+        if (symmetry != HORIZONTAL) {
+            y = mapHeight - 1 - y;
+        }
+
+        return (x << 6) | y;
+    }
+
+    private static int readEliminated() throws GameActionException {
+        int eliminated = SharedArray.getEliminatedSymmetries();
+        if ((candidates & ~eliminated) != 0) {
+            candidates &= ~eliminated;
+        }
+
+        return eliminated;
+    }
+
+    private static void writeEliminated(int eliminated, int previousCandidates) throws GameActionException {
+        if (candidates != previousCandidates) {
+            SharedArray.setEliminatedSymmetries(eliminated | (ALL & ~candidates));
+        }
+    }
+
+    private static void checkRow(int y) {
+        for (int symmetry = 1; symmetry <= VERTICAL; symmetry <<= 1) {
+            if ((candidates & symmetry) == 0) {
+                continue;
+            }
+
+            int sourceY = symmetry == HORIZONTAL ? y : mapHeight - 1 - y;
+            boolean flip = symmetry != VERTICAL;
+
+            long mirroredKnown = mirrorRow(BitboardMap.known[sourceY], flip);
+            long mirroredWalls = mirrorRow(BitboardMap.walls[sourceY], flip);
+            long mirroredAllySpawnZones = mirrorRow(BitboardMap.allySpawnZones[sourceY], flip);
+
+            // Spawn zones of both teams mirror onto each other, and are never walls
+            long allySpawnZones = BitboardMap.allySpawnZones[y];
+
+            if (((BitboardMap.walls[y] ^ mirroredWalls) & BitboardMap.known[y] & mirroredKnown) != 0
+                || (allySpawnZones & (mirroredAllySpawnZones | mirroredWalls)) != 0
+                || (BitboardMap.opponentSpawnZones[y] & ~mirroredAllySpawnZones) != 0) {
+                eliminate(symmetry);
+            }
+        }
+    }
+
+    private static void mirrorRow(int y, int symmetry) {
+        int sourceY = symmetry == HORIZONTAL ? y : mapHeight - 1 - y;
+        boolean flip = symmetry != VERTICAL;
+
+        long unknown = mirrorRow(BitboardMap.known[sourceY], flip) & ~BitboardMap.known[y];
+        if (unknown != 0) {
+            BitboardMap.walls[y] |= mirrorRow(BitboardMap.walls[sourceY], flip) & unknown;
+            BitboardMap.water[y] |= mirrorRow(BitboardMap.water[sourceY], flip) & unknown;
+            BitboardMap.known[y] |= unknown;
+        }
+
+        BitboardMap.opponentSpawnZones[y] |= mirrorRow(BitboardMap.allySpawnZones[sourceY], flip);
+    }
+
+    private static long mirrorRow(long row, boolean flip) {
+        return flip ? Long.reverse(row) >>> (64 - mapWidth) : row;
+    }
+
+    private static void eliminate(int symmetry) {
+        // Never eliminate the last candidate, in case the memory contains an outdated tile
+        if (candidates != symmetry) {
+            candidates &= ~symmetry;
+        }
+    }
+}
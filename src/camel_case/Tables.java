@@ -0,0 +1,51 @@
+package camel_case;
+
+// Generated by scripts/generate_tables.py
+public class Tables {
+    public static final int MAX_DELTA = 10;
+    public static final int DELTA_SIZE = 21;
+
+    public static final int DANGER_RADIUS_SQUARED = 10;
+    public static final int DANGER_WINDOW_RADIUS = 7;
+    public static final int DANGER_WINDOW_SIZE = 15;
+    public static final int DANGER_STAMP_OFFSET = 64;
+
+    public static final int VISION_OFFSET_BIAS = 8;
+
+    // Indexed by Direction.ordinal()
+    public static final String ROTATE_LEFT = "\7\0\1\2\3\4\5\6\10";
+
+    // Indexed by Direction.ordinal()
+    public static final String ROTATE_RIGHT = "\1\2\3\4\5\6\7\0\10";
+
+    // Indexed by Direction.ordinal()
+    public static final String OPPOSITE = "\4\5\6\7\0\1\2\3\10";
+
+    // Indexed by Direction.ordinal(), offset of a packed location plus 65
+    public static final String PACKED_OFFSETS = "\102\202\201\200\100\0\1\2\101";
+
+    // Indexed by Direction.ordinal(), dx plus 1
+    public static final String DELTA_X = "\1\2\2\2\1\0\0\0\1";
+
+    // Indexed by Direction.ordinal(), dy plus 1
+    public static final String DELTA_Y = "\2\2\1\0\0\0\1\2\1";
+
+    // Indexed by (dx + 10) * 21 + (dy + 10), Direction.ordinal() of MapLocation.directionTo
+    public static final String DIRECTION_TO = "\5\5\5\5\5\5\6\6\6\6\6\6\6\6\6\7\7\7\7\7\7\5\5\5\5\5\5\5\6\6\6\6\6\6\6\7\7\7\7\7\7\7\5\5\5\5\5\5\5\6\6\6\6\6\6\6\7\7\7\7\7\7\7\5\5\5\5\5\5\5\5\6\6\6\6\6\7\7\7\7\7\7\7\7\5\5\5\5\5\5\5\5\6\6\6\6\6\7\7\7\7\7\7\7\7\5\5\5\5\5\5\5\5\6\6\6\6\6\7\7\7\7\7\7\7\7\4\5\5\5\5\5\5\5\5\6\6\6\7\7\7\7\7\7\7\7\0\4\4\4\5\5\5\5\5\5\6\6\6\7\7\7\7\7\7\0\0\0\4\4\4\4\4\4\5\5\5\5\6\7\7\7\7\0\0\0\0\0\0\4\4\4\4\4\4\4\4\5\5\6\7\7\0\0\0\0\0\0\0\0\4\4\4\4\4\4\4\4\4\4\10\0\0\0\0\0\0\0\0\0\0\4\4\4\4\4\4\4\4\3\3\2\1\1\0\0\0\0\0\0\0\0\4\4\4\4\4\4\3\3\3\3\2\1\1\1\1\0\0\0\0\0\0\4\4\4\3\3\3\3\3\3\2\2\2\1\1\1\1\1\1\0\0\0\4\3\3\3\3\3\3\3\3\2\2\2\1\1\1\1\1\1\1\1\0\3\3\3\3\3\3\3\3\2\2\2\2\2\1\1\1\1\1\1\1\1\3\3\3\3\3\3\3\3\2\2\2\2\2\1\1\1\1\1\1\1\1\3\3\3\3\3\3\3\3\2\2\2\2\2\1\1\1\1\1\1\1\1\3\3\3\3\3\3\3\2\2\2\2\2\2\2\1\1\1\1\1\1\1\3\3\3\3\3\3\3\2\2\2\2\2\2\2\1\1\1\1\1\1\1\3\3\3\3\3\3\2\2\2\2\2\2\2\2\2\1\1\1\1\1\1";
+
+    // Window index offsets of the tiles within distance squared 10, plus 64
+    public static final String DANGER_STAMP = "\22\23\24\40\41\42\43\44\56\57\60\61\62\63\64\75\76\77\100\101\102\103\114\115\116\117\120\121\122\134\135\136\137\140\154\155\156";
+
+    // Indexed by Direction.ordinal() of the last move, ((dx + 8) << 4) | (dy + 8) of the tiles that became visible
+    public static final String[] NEW_VISION = {
+        "\112\133\154\174\214\234\254\273\312",
+        "\154\174\214\234\253\254\272\273\306\307\310\311\312",
+        "\244\254\265\273\306\307\310\311\312",
+        "\144\164\204\224\244\245\265\266\306\307\310\311\312",
+        "\106\125\144\164\204\224\244\265\306",
+        "\106\107\110\111\112\125\126\144\145\164\204\224\244",
+        "\106\107\110\111\112\125\133\144\154",
+        "\106\107\110\111\112\132\133\153\154\174\214\234\254",
+        ""
+    };
+}
@@ -0,0 +1,24 @@
+package camel_case;
+
+import battlecode.common.GameActionException;
+
+// Walks the distance field from our spawn zones to the enemy flag spawn candidates, too expensive for spawned robots
+public class TargetFlagSpawnJob implements BackgroundJob {
+    private DistanceField field = new DistanceField();
+    private boolean isStarted = false;
+
+    public boolean run() throws GameActionException {
+        if (!isStarted) {
+            field.reset(BitboardMap.allySpawnZones);
+            isStarted = true;
+        }
+
+        if (!field.run()) {
+            return false;
+        }
+
+        EnemyFlagSpawns.publishTarget(field);
+        isStarted = false;
+        return true;
+    }
+}
@@ -0,0 +1,116 @@
+package camel_case;
+
+import battlecode.common.GameActionException;
+import battlecode.common.GameConstants;
+import battlecode.common.MapLocation;
+
+// Streams 4x4 chunks with walls or water through the shared array so every robot learns the terrain its teammates saw
+public class TerrainSharing extends Globals {
+    private static final int CHUNK_SIZE = 4;
+    private static final int CHUNK_COLUMNS = GameConstants.MAP_MAX_WIDTH / CHUNK_SIZE;
+
+    // Chunks this robot published, received or found to contain neither walls nor water
+    private static boolean[] isShared = new boolean[CHUNK_COLUMNS * CHUNK_COLUMNS];
+
+    private static int lastReadHead = 0;
+
+    public static void update() throws GameActionException {
+        read();
+        publish();
+    }
+
+    private static void read() throws GameActionException {
+        int head = SharedArray.getTerrainHead();
+
+        // Messages older than the buffer have been overwritten already
+        if (((head - lastReadHead) & 0xFFFF) > SharedArray.TERRAIN_MESSAGE_COUNT) {
+            lastReadHead = (head - SharedArray.TERRAIN_MESSAGE_COUNT) & 0xFFFF;
+        }
+
+        while (lastReadHead != head) {
+            int chunk = SharedArray.readTerrainChunk(lastReadHead);
+            if (chunk >= 0 && !isShared[chunk]) {
+                merge(chunk, SharedArray.readTerrainWalls(lastReadHead), SharedArray.readTerrainWater(lastReadHead));
+                isShared[chunk] = true;
+            }
+
+            lastReadHead = (lastReadHead + 1) & 0xFFFF;
+        }
+    }
+
+    private static void publish() throws GameActionException {
+        MapLocation myLocation = rc.getLocation();
+
+        int minChunkX = Math.max(0, myLocation.x - 4) / CHUNK_SIZE;
+        int maxChunkX = Math.min(mapWidth - 1, myLocation.x + 4) / CHUNK_SIZE;
+        int minChunkY = Math.max(0, myLocation.y - 4) / CHUNK_SIZE;
+        int maxChunkY = Math.min(mapHeight - 1, myLocation.y + 4) / CHUNK_SIZE;
+
+        for (int chunkY = minChunkY; chunkY <= maxChunkY; chunkY++) {
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                int chunk = chunkY * CHUNK_COLUMNS + chunkX;
+                if (isShared[chunk]) {
+                    continue;
+                }
+
+                int x = chunkX * CHUNK_SIZE;
+                int minY = chunkY * CHUNK_SIZE;
+                int maxY = Math.min(minY + CHUNK_SIZE, mapHeight);
+                long rowMask = (0xFL << x) & BitboardMap.fullRow;
+
+                boolean isComplete = true;
+                int wallMask = 0;
+                int waterMask = 0;
+
+                for (int y = minY; y < maxY; y++) {
+                    if ((BitboardMap.known[y] & rowMask) != rowMask) {
+                        isComplete = false;
+                        break;
+                    }
+
+                    int shift = (y - minY) * CHUNK_SIZE;
+                    wallMask |= (int) ((BitboardMap.walls[y] >>> x) & 0xF) << shift;
+                    waterMask |= (int) ((BitboardMap.water[y] >>> x) & 0xF) << shift;
+                }
+
+                if (!isComplete) {
+                    continue;
+                }
+
+                if (wallMask == 0 && waterMask == 0) {
+                    isShared[chunk] = true;
+                    continue;
+                }
+
+                // One message per robot per turn keeps the buffer from being overwritten before everyone read it
+                if (!SharedArray.canWriteTerrain()) {
+                    return;
+                }
+
+                SharedArray.writeTerrain(chunk, wallMask, waterMask);
+                isShared[chunk] = true;
+                return;
+            }
+        }
+    }
+
+    // Only tiles this robot has not seen itself are taken over, its own observations may be more recent
+    private static void merge(int chunk, int wallMask, int waterMask) {
+        int x = (chunk % CHUNK_COLUMNS) * CHUNK_SIZE;
+        int minY = (chunk / CHUNK_COLUMNS) * CHUNK_SIZE;
+        int maxY = Math.min(minY + CHUNK_SIZE, mapHeight);
+        long rowMask = (0xFL << x) & BitboardMap.fullRow;
+
+        for (int y = minY; y < maxY; y++) {
+            long unknown = rowMask & ~BitboardMap.known[y];
+            if (unknown == 0) {
+                continue;
+            }
+
+            int shift = (y - minY) * CHUNK_SIZE;
+            BitboardMap.walls[y] |= ((long) ((wallMask >>> shift) & 0xF) << x) & unknown;
+            BitboardMap.water[y] |= ((long) ((waterMask >>> shift) & 0xF) << x) & unknown;
+            BitboardMap.known[y] |= unknown;
+        }
+    }
+}
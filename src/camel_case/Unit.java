@@ -13,6 +13,26 @@ public class Unit extends Globals {
     private static MapLocation wanderTarget;
     private static MapLocation spawnLocation;
 
+    // Built for flag carriers, and rebuilt early once a carrier gets stuck on terrain it did not know about
+    private static final int HOME_FIELD_REFRESH_ROUNDS = 100;
+    private static DistanceField homeField = new DistanceField();
+    private static boolean isHomeFieldOutdated = false;
+
+    private static int[] targets = new int[SharedArray.MAX_POI_COUNT];
+
+    // Longer than EnemySightings.DECAY_ROUNDS because robots are usually dead for a while before they read it
+    private static final int SPAWN_THREAT_DECAY_ROUNDS = 40;
+    private static final int SPAWN_THREAT_WEIGHT = 5;
+    private static int[] spawnThreats = new int[SharedArray.FLAG_SPAWN_COUNT];
+
+    private static final int REMEMBERED_CRUMBS_MAX_ROWS = 10;
+
+    private static final int FOCUS_ROUNDS = 3;
+    private static FastIntMap lastAttackRounds = new FastIntMap(FastIntMap.ROBOT_CAPACITY);
+
+    private static final int SAFETY_THREAT_RADIUS_SQUARED = 20;
+    private static final int VISIBLE_DANGER_WEIGHT = 1000;
+
     public static void act() throws GameActionException {
         if (rc.canBuyGlobal(GlobalUpgrade.ATTACK)) {
             rc.buyGlobal(GlobalUpgrade.ATTACK);
@@ -27,34 +47,110 @@ public class Unit extends Globals {
         }
 
         if (!rc.isSpawned()) {
-            if (spawn()) {
+            Profiler.start(Profiler.SPAWN);
+            boolean spawned = spawn();
+            Profiler.end(Profiler.SPAWN);
+
+            if (spawned) {
                 spawnLocation = rc.getLocation();
                 Navigator.reset();
             } else {
+                ComputePool.work();
                 return;
             }
         }
 
+        ComputePool.update();
+
+        Profiler.start(Profiler.SHARED_ARRAY_UPDATE);
         SharedArray.update();
+        Profiler.end(Profiler.SHARED_ARRAY_UPDATE);
+
+        Scheduler.startTurn();
+
+        if (Scheduler.shouldRun(Scheduler.UPDATE_MAP)) {
+            Profiler.start(Profiler.UPDATE_MAP);
+            MapMemory.update(Scheduler.getEstimatedCost(Scheduler.UPDATE_MAP));
+            Profiler.end(Profiler.UPDATE_MAP);
+        }
+
+        if (Scheduler.shouldRun(Scheduler.TERRAIN_SHARING)) {
+            Profiler.start(Profiler.TERRAIN_SHARING);
+            TerrainSharing.update();
+            Profiler.end(Profiler.TERRAIN_SHARING);
+        }
+
+        if (Scheduler.shouldRun(Scheduler.SYMMETRY)) {
+            Profiler.start(Profiler.SYMMETRY);
+            Symmetry.update();
+            Profiler.end(Profiler.SYMMETRY);
+        }
+
+        if (Scheduler.shouldRun(Scheduler.ENEMY_FLAG_SPAWNS)) {
+            Profiler.start(Profiler.ENEMY_FLAG_SPAWNS);
+            EnemyFlagSpawns.update();
+            Profiler.end(Profiler.ENEMY_FLAG_SPAWNS);
+        }
+
+        Profiler.start(Profiler.UPDATE_DANGER);
+        DangerField.update();
+        Profiler.end(Profiler.UPDATE_DANGER);
+
+        EnemySightings.record(DangerField.getOpponents());
 
-        if (rc.getRoundNum() < GameConstants.SETUP_ROUNDS * 0.75) {
+        if (!BackgroundJobs.isQueued(homeField)
+            && (homeField.getStartRound() == -1 || rc.getRoundNum() - homeField.getStartRound() >= HOME_FIELD_REFRESH_ROUNDS || isHomeFieldOutdated)) {
+            homeField.reset(BitboardMap.allySpawnZones, true);
+            BackgroundJobs.add(homeField);
+            isHomeFieldOutdated = false;
+        }
+
+        SetupRouting.update();
+
+        // Once a staging tile is reachable, the approach is timed to arrive when the dams drop instead of at a fixed round
+        boolean isTimingApproach = rc.getRoundNum() < GameConstants.SETUP_ROUNDS && !rc.hasFlag() && SetupRouting.hasStagingDistance();
+
+        if (isTimingApproach && SetupRouting.shouldApproach()) {
+            int flagSpawn = EnemyFlagSpawns.getNearest(rc.getLocation());
+
+            if (Logger.ENABLED) {
+                Logger.log("approach dam");
+            }
+
+            if (SetupRouting.moveToStaging(flagSpawn != -1 ? PackedLocation.unpack(flagSpawn) : null)) {
+                return;
+            }
+        }
+
+        if (isTimingApproach || rc.getRoundNum() < GameConstants.SETUP_ROUNDS * 0.75) {
+            Profiler.start(Profiler.MOVE_TO_CRUMBS);
             moveToCrumbs();
+            Profiler.end(Profiler.MOVE_TO_CRUMBS);
+
+            Profiler.start(Profiler.WANDER);
             wander();
+            Profiler.end(Profiler.WANDER);
             return;
         }
 
         if (rc.hasFlag()) {
+            Profiler.start(Profiler.BRING_FLAG_HOME);
             bringFlagHome();
+            Profiler.end(Profiler.BRING_FLAG_HOME);
 
             if (rc.hasFlag()) {
                 return;
             }
         }
 
+        Profiler.start(Profiler.PICK_UP_FLAG);
         pickUpFlag();
+        Profiler.end(Profiler.PICK_UP_FLAG);
 
         if (rc.hasFlag()) {
+            Profiler.start(Profiler.BRING_FLAG_HOME);
             bringFlagHome();
+            Profiler.end(Profiler.BRING_FLAG_HOME);
 
             if (rc.hasFlag()) {
                 return;
@@ -62,54 +158,145 @@ public class Unit extends Globals {
         }
 
         if (rc.getRoundNum() >= GameConstants.SETUP_ROUNDS) {
-            buildTrap();
-            attackOpponent();
-            attackOpponent();
-            healFriendly();
-            buildTrap();
-            buildTrap();
-            buildTrap();
-            moveToSafety();
+            if (Scheduler.shouldRun(Scheduler.BUILD_TRAP)) {
+                Profiler.start(Profiler.BUILD_TRAP_1);
+                buildTrap();
+                Profiler.end(Profiler.BUILD_TRAP_1);
+            }
+
+            if (Scheduler.shouldRun(Scheduler.ATTACK_OPPONENT)) {
+                Profiler.start(Profiler.ATTACK_OPPONENT_1);
+                attackOpponent();
+                Profiler.end(Profiler.ATTACK_OPPONENT_1);
+            }
+
+            if (Scheduler.shouldRun(Scheduler.ATTACK_OPPONENT)) {
+                Profiler.start(Profiler.ATTACK_OPPONENT_2);
+                attackOpponent();
+                Profiler.end(Profiler.ATTACK_OPPONENT_2);
+            }
+
+            if (Scheduler.shouldRun(Scheduler.HEAL_FRIENDLY)) {
+                Profiler.start(Profiler.HEAL_FRIENDLY);
+                healFriendly();
+                Profiler.end(Profiler.HEAL_FRIENDLY);
+            }
+
+            if (Scheduler.shouldRun(Scheduler.BUILD_TRAP)) {
+                Profiler.start(Profiler.BUILD_TRAP_2);
+                buildTrap();
+                Profiler.end(Profiler.BUILD_TRAP_2);
+            }
+
+            if (Scheduler.shouldRun(Scheduler.BUILD_TRAP)) {
+                Profiler.start(Profiler.BUILD_TRAP_3);
+                buildTrap();
+                Profiler.end(Profiler.BUILD_TRAP_3);
+            }
+
+            if (Scheduler.shouldRun(Scheduler.BUILD_TRAP)) {
+                Profiler.start(Profiler.BUILD_TRAP_4);
+                buildTrap();
+                Profiler.end(Profiler.BUILD_TRAP_4);
+            }
+
+            if (Scheduler.shouldRun(Scheduler.MOVE_TO_SAFETY)) {
+                Profiler.start(Profiler.MOVE_TO_SAFETY);
+                moveToSafety();
+                Profiler.end(Profiler.MOVE_TO_SAFETY);
+            }
         }
 
         if (rc.getRoundNum() < GameConstants.SETUP_ROUNDS * 1.5) {
-            moveToCrumbs();
+            if (Scheduler.shouldRun(Scheduler.MOVE_TO_CRUMBS)) {
+                Profiler.start(Profiler.MOVE_TO_CRUMBS);
+                moveToCrumbs();
+                Profiler.end(Profiler.MOVE_TO_CRUMBS);
+            }
         }
 
-        moveToPOI();
+        if (Scheduler.shouldRun(Scheduler.MOVE_TO_TARGET)) {
+            Profiler.start(Profiler.MOVE_TO_POI);
+            moveToPOI();
+            Profiler.end(Profiler.MOVE_TO_POI);
+        }
+
+        if (Scheduler.shouldRun(Scheduler.MOVE_TO_TARGET)) {
+            Profiler.start(Profiler.MOVE_TO_FLAG);
+            moveToFlag();
+            Profiler.end(Profiler.MOVE_TO_FLAG);
+        }
 
-        moveToFlag();
+        Profiler.start(Profiler.PICK_UP_FLAG);
         pickUpFlag();
+        Profiler.end(Profiler.PICK_UP_FLAG);
     }
 
     private static boolean spawn() throws GameActionException {
-        MapLocation[] targets = new MapLocation[SharedArray.getPOICount()];
-        for (int i = targets.length; --i >= 0; ) {
-            targets[i] = SharedArray.getPOI(i);
-        }
+        int targetCount = SharedArray.readPOIs(targets);
 
         MapLocation bestLocation = null;
         int minDistance = Integer.MAX_VALUE;
 
         MapLocation[] spawnLocations = rc.getAllySpawnLocations();
+        boolean hasRecentThreat = false;
+        for (int i = SharedArray.FLAG_SPAWN_COUNT; --i >= 0; ) {
+            spawnThreats[i] = SharedArray.getSpawnThreat(i, SPAWN_THREAT_DECAY_ROUNDS);
+            if (spawnThreats[i] > 0) {
+                hasRecentThreat = true;
+            }
+        }
 
-        if (targets.length == 0) {
+        if (targetCount == 0) {
             MapLocation preferredLocation = spawnLocations[myId % spawnLocations.length];
-            if (rc.canSpawn(preferredLocation)) {
-                Logger.log("spawn preferred " + preferredLocation);
+            if (rc.canSpawn(preferredLocation) && (!hasRecentThreat || getSpawnThreat(preferredLocation) == 0)) {
+                if (Logger.ENABLED) {
+                    Logger.log("spawn preferred " + preferredLocation);
+                }
+
                 rc.spawn(preferredLocation);
                 return true;
             }
 
-            for (int i = spawnLocations.length - 1; --i >= 0; ) {
+            if (!hasRecentThreat) {
+                for (int i = spawnLocations.length - 1; --i >= 0; ) {
+                    MapLocation location = spawnLocations[i];
+                    if (rc.canSpawn(location)) {
+                        if (Logger.ENABLED) {
+                            Logger.log("spawn first " + location);
+                        }
+
+                        rc.spawn(location);
+                        return true;
+                    }
+                }
+
+                return false;
+            }
+
+            int minThreat = Integer.MAX_VALUE;
+            for (int i = spawnLocations.length; --i >= 0; ) {
                 MapLocation location = spawnLocations[i];
-                if (rc.canSpawn(location)) {
-                    Logger.log("spawn first " + bestLocation);
-                    rc.spawn(location);
-                    return true;
+                if (!rc.canSpawn(location)) {
+                    continue;
+                }
+
+                int threat = getSpawnThreat(location);
+                if (threat < minThreat) {
+                    bestLocation = location;
+                    minThreat = threat;
                 }
             }
 
+            if (bestLocation != null) {
+                if (Logger.ENABLED) {
+                    Logger.log("spawn safest " + bestLocation);
+                }
+
+                rc.spawn(bestLocation);
+                return true;
+            }
+
             return false;
         }
 
@@ -119,9 +306,15 @@ public class Unit extends Globals {
                 continue;
             }
 
+            int packedLocation = PackedLocation.pack(location);
+
             int distance = Integer.MAX_VALUE - 1;
-            for (int j = targets.length; --j >= 0; ) {
-                distance = Math.min(distance, location.distanceSquaredTo(targets[j]));
+            for (int j = targetCount; --j >= 0; ) {
+                distance = Math.min(distance, PackedLocation.distanceSquared(packedLocation, targets[j]));
+            }
+
+            if (hasRecentThreat) {
+                distance += getSpawnThreat(location) * SPAWN_THREAT_WEIGHT;
             }
 
             if (distance < minDistance) {
@@ -131,7 +324,10 @@ public class Unit extends Globals {
         }
 
         if (bestLocation != null) {
-            Logger.log("spawn closest " + bestLocation);
+            if (Logger.ENABLED) {
+                Logger.log("spawn closest " + bestLocation);
+            }
+
             rc.spawn(bestLocation);
             return true;
         }
@@ -139,6 +335,24 @@ public class Unit extends Globals {
         return false;
     }
 
+    // Threat shared for the flag spawn whose spawn zone contains the location
+    private static int getSpawnThreat(MapLocation location) {
+        int packedLocation = PackedLocation.pack(location);
+
+        int bestFlagSpawn = 0;
+        int minDistance = Integer.MAX_VALUE;
+
+        for (int i = SharedArray.FLAG_SPAWN_COUNT; --i >= 0; ) {
+            int distance = PackedLocation.distanceSquared(packedLocation, SharedArray.getFlagSpawn(i));
+            if (distance < minDistance) {
+                bestFlagSpawn = i;
+                minDistance = distance;
+            }
+        }
+
+        return spawnThreats[bestFlagSpawn];
+    }
+
     private static void pickUpFlag() throws GameActionException {
         if (!rc.isActionReady()) {
             return;
@@ -148,7 +362,10 @@ public class Unit extends Globals {
         for (int i = flags.length; --i >= 0; ) {
             MapLocation location = flags[i].getLocation();
             if (rc.canPickupFlag(location)) {
-                Logger.log("pickup " + location);
+                if (Logger.ENABLED) {
+                    Logger.log("pickup " + location);
+                }
+
                 rc.pickupFlag(location);
                 return;
             }
@@ -162,8 +379,12 @@ public class Unit extends Globals {
 
         RobotInfo attackTarget = getAttackTarget(GameConstants.ATTACK_RADIUS_SQUARED);
         if (attackTarget != null && rc.canAttack(attackTarget.location)) {
-            Logger.log("attack 1 " + attackTarget.getID());
+            if (Logger.ENABLED) {
+                Logger.log("attack 1 " + attackTarget.getID());
+            }
+
             rc.attack(attackTarget.location);
+            recordAttack(attackTarget);
             return;
         }
 
@@ -187,14 +408,7 @@ public class Unit extends Globals {
                 continue;
             }
 
-            int score = rc.senseMapInfo(newLocation).getCrumbs();
-
-            RobotInfo[] nearbyOpponents = rc.senseNearbyRobots(newLocation, 10, opponentTeam);
-            for (int j = nearbyOpponents.length; --j >= 0; ) {
-                if (!nearbyOpponents[j].hasFlag) {
-                    score--;
-                }
-            }
+            int score = rc.senseMapInfo(newLocation).getCrumbs() - DangerField.get(newLocation);
 
             if (score > maxScore) {
                 bestMoveDirection = direction;
@@ -204,12 +418,19 @@ public class Unit extends Globals {
         }
 
         if (bestMoveDirection != null) {
-            Logger.log("attack 2 move " + bestMoveDirection);
+            if (Logger.ENABLED) {
+                Logger.log("attack 2 move " + bestMoveDirection);
+            }
+
             rc.move(bestMoveDirection);
 
             if (rc.canAttack(bestMoveTarget.location)) {
-                Logger.log("attack 2 " + bestMoveTarget.getID());
+                if (Logger.ENABLED) {
+                    Logger.log("attack 2 " + bestMoveTarget.getID());
+                }
+
                 rc.attack(bestMoveTarget.location);
+                recordAttack(bestMoveTarget);
             }
 
             return;
@@ -217,11 +438,21 @@ public class Unit extends Globals {
 
         RobotInfo moveTarget = getAttackTarget(GameConstants.VISION_RADIUS_SQUARED);
         if (moveTarget != null) {
-            Logger.log("attack 3 move " + moveTarget.location);
+            if (Logger.ENABLED) {
+                Logger.log("attack 3 move " + moveTarget.location);
+            }
+
             Navigator.moveTo(moveTarget.location);
         }
     }
 
+    private static void recordAttack(RobotInfo target) {
+        if (!lastAttackRounds.put(target.ID, rc.getRoundNum())) {
+            lastAttackRounds.clear();
+            lastAttackRounds.put(target.ID, rc.getRoundNum());
+        }
+    }
+
     private static RobotInfo getAttackTarget(int radius) throws GameActionException {
         return getAttackTarget(rc.getLocation(), radius);
     }
@@ -230,14 +461,20 @@ public class Unit extends Globals {
         RobotInfo bestTarget = null;
         int minHealth = Integer.MAX_VALUE;
         int maxPriority = Integer.MIN_VALUE;
+        int round = rc.getRoundNum();
 
         RobotInfo[] robots = rc.senseNearbyRobots(center, radius, opponentTeam);
         for (int i = robots.length; --i >= 0; ) {
             RobotInfo robot = robots[i];
 
-            int priority = robot.attackLevel + robot.healLevel + robot.buildLevel;
+            // Between opponents of the same level, keep attacking the one this robot attacked recently
+            int priority = (robot.attackLevel + robot.healLevel + robot.buildLevel) * 2;
+            if (round - lastAttackRounds.get(robot.ID, -FOCUS_ROUNDS - 1) <= FOCUS_ROUNDS) {
+                priority++;
+            }
+
             if (robot.hasFlag) {
-                priority += 1000;
+                priority += 2000;
             }
 
             if (bestTarget == null || priority > maxPriority || (priority == maxPriority && robot.health < minHealth)) {
@@ -266,7 +503,7 @@ public class Unit extends Globals {
                 continue;
             }
 
-            int nearbyOpponents = rc.senseNearbyRobots(trapLocation, 8, opponentTeam).length;
+            int nearbyOpponents = DangerField.get(trapLocation);
             if (nearbyOpponents > maxOpponents) {
                 bestLocation = trapLocation;
                 maxOpponents = nearbyOpponents;
@@ -274,7 +511,10 @@ public class Unit extends Globals {
         }
 
         if (bestLocation != null) {
-            Logger.log("trap " + trapType + " " + bestLocation);
+            if (Logger.ENABLED) {
+                Logger.log("trap " + trapType + " " + bestLocation);
+            }
+
             rc.build(trapType, bestLocation);
         }
     }
@@ -285,16 +525,14 @@ public class Unit extends Globals {
         }
 
         MapLocation myLocation = rc.getLocation();
-        RobotInfo[] opponentRobots = rc.senseNearbyRobots(GameConstants.VISION_RADIUS_SQUARED, opponentTeam);
 
-        Direction bestDirection = null;
+        // Right after acting, also back away from opponents that were seen recently but are out of vision now
+        boolean checkThreat = !rc.isActionReady() && EnemySightings.hasRecent();
 
-        int minDangerousOpponents = 0;
-        for (int i = opponentRobots.length; --i >= 0; ) {
-            RobotInfo robot = opponentRobots[i];
-            if (!robot.hasFlag && myLocation.distanceSquaredTo(robot.location) <= 10) {
-                minDangerousOpponents++;
-            }
+        Direction bestDirection = null;
+        int minDanger = DangerField.get(myLocation) * VISIBLE_DANGER_WEIGHT;
+        if (checkThreat) {
+            minDanger += EnemySightings.getThreat(myLocation.x, myLocation.y, SAFETY_THREAT_RADIUS_SQUARED);
         }
 
         for (int i = adjacentDirections.length; --i >= 0; ) {
@@ -303,30 +541,31 @@ public class Unit extends Globals {
                 continue;
             }
 
-            MapLocation newLocation = rc.adjacentLocation(direction);
+            int newX = myLocation.x + Tables.DELTA_X.charAt(direction.ordinal()) - 1;
+            int newY = myLocation.y + Tables.DELTA_Y.charAt(direction.ordinal()) - 1;
 
-            int dangerousOpponents = 0;
-            for (int j = opponentRobots.length; --j >= 0; ) {
-                RobotInfo robot = opponentRobots[j];
-                if (!robot.hasFlag && newLocation.distanceSquaredTo(robot.location) <= 10) {
-                    dangerousOpponents++;
-                }
+            int danger = DangerField.get(newX, newY) * VISIBLE_DANGER_WEIGHT;
+            if (checkThreat) {
+                danger += EnemySightings.getThreat(newX, newY, SAFETY_THREAT_RADIUS_SQUARED);
             }
 
-            if (dangerousOpponents < minDangerousOpponents) {
+            if (danger < minDanger) {
                 bestDirection = direction;
-                minDangerousOpponents = dangerousOpponents;
+                minDanger = danger;
             }
         }
 
         if (bestDirection != null) {
-            Logger.log("safety " + bestDirection);
+            if (Logger.ENABLED) {
+                Logger.log("safety " + bestDirection);
+            }
+
             rc.move(bestDirection);
         }
     }
 
     private static void healFriendly() throws GameActionException {
-        if (!rc.isActionReady() || rc.senseNearbyRobots(GameConstants.VISION_RADIUS_SQUARED, opponentTeam).length > 0) {
+        if (!rc.isActionReady() || DangerField.hasOpponents()) {
             return;
         }
 
@@ -360,12 +599,18 @@ public class Unit extends Globals {
 
         if (bestDirection != null) {
             if (bestDirection != Direction.CENTER) {
-                Logger.log("heal move " + bestDirection);
+                if (Logger.ENABLED) {
+                    Logger.log("heal move " + bestDirection);
+                }
+
                 rc.move(bestDirection);
             }
 
             if (rc.canHeal(bestTarget.location)) {
-                Logger.log("heal " + bestTarget.getID());
+                if (Logger.ENABLED) {
+                    Logger.log("heal " + bestTarget.getID());
+                }
+
                 rc.heal(bestTarget.location);
             }
         }
@@ -403,7 +648,20 @@ public class Unit extends Globals {
             return;
         }
 
-        Logger.log("home " + spawnLocation);
+        if (Logger.ENABLED) {
+            Logger.log("home " + spawnLocation);
+        }
+
+        // The field ignores opponents, so the danger-aware navigator takes over while any are visible
+        if (homeField.isComplete() && !DangerField.hasOpponents()) {
+            if (Navigator.moveAlong(homeField)) {
+                return;
+            }
+
+            // No neighbor is closer, so the field is missing terrain, ignore it until it has been rebuilt
+            isHomeFieldOutdated = true;
+        }
+
         Navigator.moveTo(spawnLocation);
     }
 
@@ -429,8 +687,24 @@ public class Unit extends Globals {
         }
 
         if (bestLocation != null) {
-            Logger.log("crumbs " + bestLocation);
+            if (Logger.ENABLED) {
+                Logger.log("crumbs " + bestLocation);
+            }
+
             Navigator.moveTo(bestLocation);
+            return;
+        }
+
+        // Nothing is visible anymore, so remembered crumbs inside the vision disc have been collected
+        MapMemory.clearVisible(BitboardMap.crumbs);
+
+        MapLocation rememberedLocation = MapMemory.findNearest(BitboardMap.crumbs, myLocation, REMEMBERED_CRUMBS_MAX_ROWS);
+        if (rememberedLocation != null) {
+            if (Logger.ENABLED) {
+                Logger.log("crumbs remembered " + rememberedLocation);
+            }
+
+            Navigator.moveTo(rememberedLocation);
         }
     }
 
@@ -439,14 +713,14 @@ public class Unit extends Globals {
             return;
         }
 
-        MapLocation myLocation = rc.getLocation();
+        int myLocation = PackedLocation.pack(rc.getLocation());
 
-        MapLocation bestLocation = null;
+        int bestLocation = -1;
         int minDistance = Integer.MAX_VALUE;
 
         for (int i = SharedArray.getPOICount(); --i >= 0; ) {
-            MapLocation location = SharedArray.getPOI(i);
-            int distance = myLocation.distanceSquaredTo(location);
+            int location = SharedArray.getPOI(i);
+            int distance = PackedLocation.distanceSquared(myLocation, location);
 
             if (distance < minDistance) {
                 bestLocation = location;
@@ -454,9 +728,14 @@ public class Unit extends Globals {
             }
         }
 
-        if (bestLocation != null) {
-            Logger.log("poi " + bestLocation);
-            Navigator.moveTo(bestLocation);
+        if (bestLocation != -1) {
+            MapLocation target = PackedLocation.unpack(bestLocation);
+
+            if (Logger.ENABLED) {
+                Logger.log("poi " + target);
+            }
+
+            Navigator.moveTo(target);
         }
     }
 
@@ -487,15 +766,33 @@ public class Unit extends Globals {
         }
 
         if (bestLocation != null) {
-            Logger.log("flag " + bestLocation);
+            if (Logger.ENABLED) {
+                Logger.log("flag " + bestLocation);
+            }
+
             Navigator.moveTo(bestLocation);
             return;
         }
 
+        int flagSpawn = EnemyFlagSpawns.getTarget(myLocation);
+        if (flagSpawn != -1) {
+            MapLocation target = PackedLocation.unpack(flagSpawn);
+
+            if (Logger.ENABLED) {
+                Logger.log("flag spawn " + target);
+            }
+
+            Navigator.moveTo(target);
+            return;
+        }
+
         MapLocation[] broadcasts = rc.senseBroadcastFlagLocations();
         if (broadcasts.length > 0) {
             MapLocation myBroadcast = broadcasts[myId % broadcasts.length];
-            Logger.log("broadcast " + myBroadcast);
+            if (Logger.ENABLED) {
+                Logger.log("broadcast " + myBroadcast);
+            }
+
             Navigator.moveTo(myBroadcast);
             return;
         }
@@ -517,7 +814,10 @@ public class Unit extends Globals {
             wanderTarget = new MapLocation(RandomUtils.nextInt(mapWidth), RandomUtils.nextInt(mapHeight));
         }
 
-        Logger.log("wander " + wanderTarget);
+        if (Logger.ENABLED) {
+            Logger.log("wander " + wanderTarget);
+        }
+
         Navigator.moveTo(wanderTarget);
     }
 }